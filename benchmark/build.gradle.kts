@@ -0,0 +1,31 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":"))
+    jmh("org.springframework.boot:spring-boot-starter-jooq")
+    jmh("com.zaxxer:HikariCP")
+    jmh("io.micrometer:micrometer-core")
+    jmh("com.mysql:mysql-connector-j")
+}
+
+// 실행: ./gradlew :benchmark:jmh -Pjdbc.url=jdbc:mysql://localhost:3306/sakila
+// (docker/mysql/docker-compose-mysql.yaml 로 Sakila 데이터가 적재된 MySQL 을 띄운 상태에서 실행한다.)
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    resultsFile.set(project.layout.buildDirectory.file("results/jmh/results.json"))
+    jvmArgsAppend.set(
+        listOf("jdbc.url", "jdbc.username", "jdbc.password")
+            .filter { project.hasProperty(it) }
+            .map { "-D$it=${project.property(it)}" }
+    )
+    project.findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
+}
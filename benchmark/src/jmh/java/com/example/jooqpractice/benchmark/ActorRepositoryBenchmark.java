@@ -0,0 +1,107 @@
+package com.example.jooqpractice.benchmark;
+
+import com.example.jooqpractice.actor.ActorFilmography;
+import com.example.jooqpractice.actor.ActorFilmographyProjection;
+import com.example.jooqpractice.actor.ActorFilmographySearchOption;
+import com.example.jooqpractice.actor.ActorRepository;
+import com.example.jooqpractice.tables.JActor;
+import com.example.jooqpractice.tables.pojos.Actor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ActorRepositoryBenchmark {
+
+    @Param({"LOLLOBRIGIDA", "AN"})
+    String actorName;
+
+    @Param({"100"})
+    int bulkSize;
+
+    private SakilaDatabase database;
+
+    private ActorRepository actorRepository;
+
+    private ActorFilmographySearchOption searchOption;
+
+    private List<Actor> actors;
+
+    private Long maxActorIdBeforeBenchmark;
+
+    @Setup
+    public void setUp() {
+        database = new SakilaDatabase();
+        actorRepository = new ActorRepository(database.dslContext(), database.configuration(), database.disabledEntityCache());
+        actorRepository.rebuildActorNameIndex();
+
+        searchOption = ActorFilmographySearchOption.builder()
+            .actorName(actorName)
+            .build();
+
+        actors = IntStream.range(0, bulkSize)
+            .mapToObj(i -> new Actor(null, "BENCH" + i, "ACTOR" + i, null))
+            .toList();
+
+        maxActorIdBeforeBenchmark = database.dslContext()
+            .select(DSL.max(JActor.ACTOR.ACTOR_ID))
+            .from(JActor.ACTOR)
+            .fetchOne(0, Long.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedActors() {
+        database.dslContext()
+            .deleteFrom(JActor.ACTOR)
+            .where(JActor.ACTOR.ACTOR_ID.gt(maxActorIdBeforeBenchmark))
+            .execute();
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<ActorFilmography> filmographyByFetchGroups() {
+        return actorRepository.findActorFilmography(searchOption);
+    }
+
+    @Benchmark
+    public List<ActorFilmography> filmographyByMultiset() {
+        return actorRepository.findActorFilmographyByMultiset(searchOption);
+    }
+
+    @Benchmark
+    public List<ActorFilmography> filmographyByMultisetTitleOnly() {
+        return actorRepository.findActorFilmographyByMultiset(searchOption, ActorFilmographyProjection.TITLE);
+    }
+
+    @Benchmark
+    public void bulkInsert() {
+        actorRepository.bulkInsert(actors);
+    }
+
+    @Benchmark
+    public List<Long> bulkInsertAndReturnPks() {
+        return actorRepository.bulkInsertAndReturnPks(actors);
+    }
+
+    @Benchmark
+    public List<Actor> bulkInsertAndReturnPojos() {
+        return actorRepository.bulkInsertAndReturnPojos(actors);
+    }
+}
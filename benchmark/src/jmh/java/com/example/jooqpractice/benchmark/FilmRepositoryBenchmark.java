@@ -0,0 +1,84 @@
+package com.example.jooqpractice.benchmark;
+
+import com.example.jooqpractice.film.FilmInventoryCountIndex;
+import com.example.jooqpractice.film.FilmRepository;
+import com.example.jooqpractice.film.FilmRepositoryHasDao;
+import com.example.jooqpractice.film.FilmRepositoryIsDao;
+import com.example.jooqpractice.film.FilmWithActor;
+import com.example.jooqpractice.film.RentedFilmIndex;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilmRepositoryBenchmark {
+
+    @Param({"0", "100", "250"})
+    int page;
+
+    @Param({"20"})
+    int pageSize;
+
+    private SakilaDatabase database;
+
+    private FilmRepository filmRepository;
+
+    private FilmRepositoryIsDao filmRepositoryIsDao;
+
+    private FilmRepositoryHasDao filmRepositoryHasDao;
+
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        database = new SakilaDatabase();
+        filmRepository = new FilmRepository(database.dslContext(), database.disabledEntityCache(),
+            database.disabledQueryResultCache(), new FilmInventoryCountIndex(), new RentedFilmIndex());
+        filmRepositoryIsDao = new FilmRepositoryIsDao(database.configuration(), database.dslContext());
+        filmRepositoryHasDao = new FilmRepositoryHasDao(database.dslContext(), database.configuration(), database.disabledEntityCache());
+        pageable = PageRequest.of(page, pageSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<FilmWithActor> explicitJoin() {
+        return filmRepository.findFilmWithActorList(pageable);
+    }
+
+    @Benchmark
+    public List<FilmWithActor> explicitPathJoin() {
+        return filmRepository.findFilmWithActorListByExplicitPathJoin(pageable);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public List<FilmWithActor> implicitPathJoin() {
+        return filmRepository.findFilmWithActorListByImplicitPathJoin(pageable);
+    }
+
+    @Benchmark
+    public List<FilmWithActor> isDao() {
+        return filmRepositoryIsDao.findFilmWithActorList(pageable);
+    }
+
+    @Benchmark
+    public List<FilmWithActor> hasDao() {
+        return filmRepositoryHasDao.findFilmWithActorList(pageable);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.jooqpractice.benchmark;
+
+import com.example.jooqpractice.film.FilmInventoryCountIndex;
+import com.example.jooqpractice.film.FilmRepository;
+import com.example.jooqpractice.film.FilmRepositoryIsDao;
+import com.example.jooqpractice.film.RentedFilmIndex;
+import com.example.jooqpractice.film.SimpleFilmInfo;
+import com.example.jooqpractice.tables.JFilm;
+import com.example.jooqpractice.utils.jooq.QueryTemplate;
+import java.util.concurrent.TimeUnit;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 매 호출마다 쿼리를 조립, 렌더링하는 방식과 QueryTemplate 으로 렌더링된 SQL 을 재사용하는 방식을 비교한다.
+ * <p>
+ * render* 는 DB 없이 호출 1건당 SQL 을 만드는 CPU 비용만, find* 는 prepared statement 캐시 유무에 따른 전체 조회 비용을 측정한다.
+ * renderPlainSql 은 QueryTemplate 이 호출마다 남기는 비용인, 렌더링된 SQL 을 plain SQL 로 다시 훑는 비용만 따로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryTemplateBenchmark {
+    private static final JFilm FILM = JFilm.FILM;
+
+    private static final QueryTemplate SIMPLE_FILM_INFO_BY_ID = QueryTemplate.of(DSL
+        .select(FILM.FILM_ID, FILM.TITLE, FILM.DESCRIPTION)
+        .from(FILM)
+        .where(FILM.FILM_ID.eq(DSL.param("filmId", FILM.FILM_ID))));
+
+    @Param({"false", "true"})
+    boolean preparedStatementCache;
+
+    private SakilaDatabase database;
+
+    private FilmRepository filmRepository;
+
+    private FilmRepositoryIsDao filmRepositoryIsDao;
+
+    private final DSLContext renderingDslContext = DSL.using(SQLDialect.MYSQL, new Settings().withRenderSchema(false));
+
+    private long filmId;
+
+    private String plainSql;
+
+    @Setup
+    public void setUp() {
+        database = new SakilaDatabase(preparedStatementCache);
+        filmRepository = new FilmRepository(database.dslContext(), database.disabledEntityCache(),
+            database.disabledQueryResultCache(), new FilmInventoryCountIndex(), new RentedFilmIndex());
+        filmRepositoryIsDao = new FilmRepositoryIsDao(database.configuration(), database.dslContext());
+        plainSql = SIMPLE_FILM_INFO_BY_ID.query(renderingDslContext, 1L).getSQL();
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    private Long nextFilmId() {
+        filmId = filmId % 1000 + 1;
+        return filmId;
+    }
+
+    @Benchmark
+    public String renderDynamicQuery() {
+        return renderingDslContext
+            .select(FILM.FILM_ID, FILM.TITLE, FILM.DESCRIPTION)
+            .from(FILM)
+            .where(FILM.FILM_ID.eq(nextFilmId()))
+            .getSQL();
+    }
+
+    @Benchmark
+    public String renderQueryTemplate() {
+        return SIMPLE_FILM_INFO_BY_ID.query(renderingDslContext, nextFilmId()).getSQL();
+    }
+
+    @Benchmark
+    public String renderPlainSql() {
+        return renderingDslContext.resultQuery(plainSql, DSL.val(nextFilmId(), FILM.FILM_ID)).getSQL();
+    }
+
+    @Benchmark
+    public SimpleFilmInfo findDynamicQuery() {
+        return filmRepositoryIsDao.findSimpleInfoById(nextFilmId());
+    }
+
+    @Benchmark
+    public SimpleFilmInfo findQueryTemplate() {
+        return filmRepository.findSimpleInfoById(nextFilmId());
+    }
+}
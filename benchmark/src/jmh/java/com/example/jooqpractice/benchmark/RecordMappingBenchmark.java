@@ -0,0 +1,86 @@
+package com.example.jooqpractice.benchmark;
+
+import com.example.jooqpractice.film.SimpleFilmInfo;
+import com.example.jooqpractice.tables.JFilm;
+import com.example.jooqpractice.tables.pojos.Film;
+import com.example.jooqpractice.tables.records.FilmRecord;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jooq.DSLContext;
+import org.jooq.Record3;
+import org.jooq.Records;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * DB 없이 메모리에 만든 Result 로 결과 매핑 비용만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordMappingBenchmark {
+    private static final JFilm FILM = JFilm.FILM;
+
+    @Param({"20", "1000"})
+    int rows;
+
+    private Result<FilmRecord> filmRecords;
+
+    private Result<Record3<Long, String, String>> simpleFilmRecords;
+
+    @Setup
+    public void setUp() {
+        DSLContext dslContext = DSL.using(SQLDialect.MYSQL);
+
+        filmRecords = dslContext.newResult(FILM);
+        for (long i = 1; i <= rows; i++) {
+            FilmRecord filmRecord = dslContext.newRecord(FILM);
+            filmRecord.setFilmId(i);
+            filmRecord.setTitle("FILM " + i);
+            filmRecord.setDescription("A Epic Drama of a Feminist And a Mad Scientist who must Battle a Teacher");
+            filmRecord.setLanguageId(1L);
+            filmRecord.setRentalDuration(3);
+            filmRecord.setRentalRate(BigDecimal.valueOf(4.99));
+            filmRecord.setLength(120);
+            filmRecord.setReplacementCost(BigDecimal.valueOf(19.99));
+            filmRecords.add(filmRecord);
+        }
+
+        simpleFilmRecords = filmRecords.into(FILM.FILM_ID, FILM.TITLE, FILM.DESCRIPTION);
+    }
+
+    @Benchmark
+    public void recordAccess(Blackhole blackhole) {
+        for (FilmRecord filmRecord : filmRecords) {
+            blackhole.consume(filmRecord.getFilmId());
+            blackhole.consume(filmRecord.getTitle());
+            blackhole.consume(filmRecord.getDescription());
+        }
+    }
+
+    @Benchmark
+    public List<Film> intoGeneratedPojo() {
+        return filmRecords.into(Film.class);
+    }
+
+    @Benchmark
+    public List<SimpleFilmInfo> intoJavaRecordByReflection() {
+        return simpleFilmRecords.into(SimpleFilmInfo.class);
+    }
+
+    @Benchmark
+    public List<SimpleFilmInfo> intoJavaRecordByConstructorReference() {
+        return simpleFilmRecords.map(Records.mapping(SimpleFilmInfo::new));
+    }
+}
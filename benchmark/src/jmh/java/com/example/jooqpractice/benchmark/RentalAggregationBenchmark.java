@@ -0,0 +1,64 @@
+package com.example.jooqpractice.benchmark;
+
+import com.example.jooqpractice.config.ParallelAggregationProperties;
+import com.example.jooqpractice.rental.ParallelRentalAggregator;
+import com.example.jooqpractice.rental.RentalDurationTotal;
+import com.example.jooqpractice.rental.RentalRepository;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * film 별 대여 기간 합계/건수를 단일 쿼리로 집계하는 방식과 rental_id 구간으로 나누어 동시에 집계하는 방식을 비교한다.
+ * SakilaDatabase 의 커넥션 풀 크기(4)보다 parallelism 을 크게 하면 커넥션을 기다리게 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RentalAggregationBenchmark {
+
+    @Param({"1", "2", "4"})
+    int parallelism;
+
+    @Param({"2000", "8000"})
+    int chunkSize;
+
+    private SakilaDatabase database;
+
+    private RentalRepository rentalRepository;
+
+    private ParallelRentalAggregator parallelRentalAggregator;
+
+    @Setup
+    public void setUp() {
+        database = new SakilaDatabase();
+        rentalRepository = new RentalRepository(database.dslContext());
+        parallelRentalAggregator = new ParallelRentalAggregator(rentalRepository,
+            new ParallelAggregationProperties(parallelism, chunkSize, Duration.ofMinutes(1)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallelRentalAggregator.shutdown();
+        database.close();
+    }
+
+    @Benchmark
+    public Map<Long, RentalDurationTotal> singleQuery() {
+        return rentalRepository.sumRentalDurationByFilm();
+    }
+
+    @Benchmark
+    public Map<Long, RentalDurationTotal> parallelChunks() {
+        return parallelRentalAggregator.sumRentalDurationByFilm();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.jooqpractice.benchmark;
+
+import com.example.jooqpractice.film.FilmInventoryCountIndex;
+import com.example.jooqpractice.film.FilmRepository;
+import com.example.jooqpractice.film.FilmSearchMode;
+import com.example.jooqpractice.film.RentedFilmFilter;
+import com.example.jooqpractice.film.RentedFilmIndex;
+import com.example.jooqpractice.tables.pojos.Film;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * findRentedFilmsByFilmTitle 의 대여 여부 필터 방식(EXISTS, semi-join, 비트셋)을 비교한다.
+ * 제목 조건이 넓을수록 (예: "A") 영화 수 만큼 EXISTS 가 반복된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RentedFilmBenchmark {
+
+    @Param({"A", "EGG"})
+    String filmTitle;
+
+    private SakilaDatabase database;
+
+    private FilmRepository filmRepository;
+
+    @Setup
+    public void setUp() {
+        database = new SakilaDatabase();
+
+        RentedFilmIndex rentedFilmIndex = new RentedFilmIndex();
+        filmRepository = new FilmRepository(database.dslContext(), database.disabledEntityCache(),
+            database.disabledQueryResultCache(), new FilmInventoryCountIndex(), rentedFilmIndex);
+
+        rentedFilmIndex.beginRebuild();
+        rentedFilmIndex.completeRebuild(filmRepository.findRentedFilmIds());
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Film> existsSubquery() {
+        return filmRepository.findRentedFilmsByFilmTitle(filmTitle, FilmSearchMode.CONTAINS, RentedFilmFilter.EXISTS_SUBQUERY);
+    }
+
+    @Benchmark
+    public List<Film> semiJoin() {
+        return filmRepository.findRentedFilmsByFilmTitle(filmTitle, FilmSearchMode.CONTAINS, RentedFilmFilter.SEMI_JOIN);
+    }
+
+    @Benchmark
+    public List<Film> bitmap() {
+        return filmRepository.findRentedFilmsByFilmTitle(filmTitle, FilmSearchMode.CONTAINS, RentedFilmFilter.BITMAP);
+    }
+}
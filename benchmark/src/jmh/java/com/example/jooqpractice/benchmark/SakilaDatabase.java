@@ -0,0 +1,73 @@
+package com.example.jooqpractice.benchmark;
+
+import com.example.jooqpractice.cache.EntityCache;
+import com.example.jooqpractice.cache.EntityCacheProperties;
+import com.example.jooqpractice.cache.QueryResultCache;
+import com.example.jooqpractice.cache.QueryResultCacheProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+
+/**
+ * Spring Context 없이 Sakila 데이터가 적재된 DB 에 연결한다.
+ * 접속 정보는 -Djdbc.url, -Djdbc.username, -Djdbc.password 로 변경할 수 있다.
+ */
+final class SakilaDatabase implements AutoCloseable {
+    private final HikariDataSource dataSource;
+
+    private final DSLContext dslContext;
+
+    SakilaDatabase() {
+        this(false);
+    }
+
+    /**
+     * @param preparedStatementCache 커넥션마다 prepared statement 를 캐시한다. (application.yaml 의 datasource url 과 같은 설정)
+     */
+    SakilaDatabase(boolean preparedStatementCache) {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl(System.getProperty("jdbc.url", "jdbc:mysql://localhost:3306/sakila"));
+        hikariConfig.setUsername(System.getProperty("jdbc.username", "admin"));
+        hikariConfig.setPassword(System.getProperty("jdbc.password", "admin"));
+        hikariConfig.setMaximumPoolSize(4);
+        if (preparedStatementCache) {
+            hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
+            hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
+            hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
+            hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        }
+
+        this.dataSource = new HikariDataSource(hikariConfig);
+        this.dslContext = DSL.using(dataSource, SQLDialect.MYSQL, new Settings().withRenderSchema(false));
+    }
+
+    DSLContext dslContext() {
+        return dslContext;
+    }
+
+    Configuration configuration() {
+        return dslContext.configuration();
+    }
+
+    /**
+     * 캐시 적중이 아닌 조회 자체를 측정하기 위해 캐시를 끈 상태로 생성한다.
+     */
+    EntityCache disabledEntityCache() {
+        return new EntityCache(new EntityCacheProperties(false, 0, Duration.ZERO), new SimpleMeterRegistry());
+    }
+
+    QueryResultCache disabledQueryResultCache() {
+        return new QueryResultCache(new QueryResultCacheProperties(false, 0, Duration.ZERO), new SimpleMeterRegistry());
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
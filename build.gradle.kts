@@ -78,10 +78,18 @@ dependencies {
     implementation("org.jooq:jooq:${jooqVersion}")
     implementation("org.springframework.boot:spring-boot-starter-webmvc")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aspectj")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    // ReactiveFilmRepository 의 ConnectionFactory 는 ReactiveConnectionFactoryConfig 에서 직접 만든다. (R2DBC 자동 설정 미사용)
+    implementation("io.r2dbc:r2dbc-spi")
+    implementation("io.r2dbc:r2dbc-pool")
+    implementation("io.projectreactor:reactor-core")
 
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
+    annotationProcessor(project(":jooq-custom"))
 
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     developmentOnly("org.springframework.boot:spring-boot-docker-compose")
@@ -94,7 +102,15 @@ dependencies {
     jooqCodegen("org.flywaydb:flyway-core:${flywayVersion}")
     jooqCodegen("org.flywaydb:flyway-mysql:${flywayVersion}")
 
+    // BulkIngestService 에서 드라이버 전용 bulk load API (LOAD DATA LOCAL INFILE, COPY) 를 사용한다.
+    compileOnly("com.mysql:mysql-connector-j")
+    compileOnly("org.postgresql:postgresql")
     runtimeOnly("com.mysql:mysql-connector-j")
+    runtimeOnly("org.postgresql:postgresql")
+
+    // ReactiveFilmRepository 에서 사용하는 R2DBC 드라이버
+    runtimeOnly("io.asyncer:r2dbc-mysql")
+    runtimeOnly("org.postgresql:r2dbc-postgresql")
 
     testImplementation("org.springframework.boot:spring-boot-starter-jooq-test")
     testImplementation("org.springframework.boot:spring-boot-starter-webmvc-test")
@@ -125,6 +141,11 @@ jooq {
 }
 
 tasks {
+    compileJava {
+        // @GenerateRecordMapper 로 생성된 RecordMapper 를 모아두는 클래스
+        options.compilerArgs.add("-ArecordMapper.registry=com.example.jooqpractice.GeneratedRecordMappers")
+    }
+
     generateJooqClasses {
         schemas.set(listOf("sakila"))
         basePackageName.set("com.example.jooqpractice")
@@ -0,0 +1,11 @@
+-- store_id = 1 샤드: 다른 store 의 inventory 와 그 대여, 결제를 지운다. (film 등 참조 테이블은 모든 샤드에 남긴다)
+DELETE p FROM payment p
+    JOIN rental r ON r.rental_id = p.rental_id
+    JOIN inventory i ON i.inventory_id = r.inventory_id
+WHERE i.store_id <> 1;
+
+DELETE r FROM rental r
+    JOIN inventory i ON i.inventory_id = r.inventory_id
+WHERE i.store_id <> 1;
+
+DELETE FROM inventory WHERE store_id <> 1;
@@ -0,0 +1,17 @@
+package com.example.jooq.custom.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Java record 에 붙이면 {@link RecordMapperProcessor} 가 컴파일 시점에
+ * 조회 컬럼 순서대로 record 의 canonical constructor 를 직접 호출하는 RecordMapper 를 생성한다.
+ */
+// Gradle 증분 컴파일에서 aggregating processor 는 CLASS 이상의 retention 을 가진 annotation 만 읽을 수 있다.
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateRecordMapper {
+
+}
@@ -0,0 +1,362 @@
+package com.example.jooq.custom.mapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * {@link GenerateRecordMapper} 가 붙은 Java record 마다 {@code <Record>RecordMapper} 를 생성하고,
+ * 생성된 mapper 를 모두 모은 registry 클래스({@value #REGISTRY_OPTION} 옵션, 기본값 {@value #DEFAULT_REGISTRY})를 생성한다.
+ * <p>
+ * 생성된 mapper 는 jOOQ 가 Java record 를 매핑하는 것과 같이 조회 컬럼을 record component 순서대로 index 로 꺼내고,
+ * 중첩 row / MULTISET 으로 조회한 타입 (jOOQ POJO 등) 은 field 이름으로 생성자 인자 위치를 찾아 역시 index 로 꺼낸다.
+ * <p>
+ * 컬럼 수, 타입, 중첩 row 의 field 구성은 {@code forFields} 에서 조회 결과 (RecordType) 마다 한 번만 검증하고,
+ * 맞지 않으면 null 을 반환하므로 호출 측(RecordMapperProvider)에서 jOOQ 기본 mapper 로 대체해야 한다.
+ */
+@SupportedAnnotationTypes("com.example.jooq.custom.mapper.GenerateRecordMapper")
+@SupportedOptions(RecordMapperProcessor.REGISTRY_OPTION)
+public class RecordMapperProcessor extends AbstractProcessor {
+    static final String REGISTRY_OPTION = "recordMapper.registry";
+
+    static final String DEFAULT_REGISTRY = "com.example.jooqpractice.GeneratedRecordMappers";
+
+    private static final String MAPPER_SUFFIX = "RecordMapper";
+
+    private static final String FACTORY_TYPE = "java.util.function.Function<org.jooq.Field<?>[], org.jooq.RecordMapper<org.jooq.Record, ?>>";
+
+    /**
+     * 대상 record 의 canonical name -> 생성된 mapper 의 canonical name
+     */
+    private final TreeMap<String, String> generatedMappers = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateRecordMapper.class)) {
+            if (element.getKind() != ElementKind.RECORD) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "@GenerateRecordMapper can only be applied to a record", element);
+                continue;
+            }
+
+            TypeElement recordElement = (TypeElement) element;
+            generatedMappers.put(recordElement.getQualifiedName().toString(), writeMapper(recordElement));
+        }
+
+        if (roundEnv.processingOver() && !generatedMappers.isEmpty()) {
+            writeRegistry();
+        }
+
+        return true;
+    }
+
+    private String writeMapper(TypeElement recordElement) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(recordElement).getQualifiedName().toString();
+        String targetType = recordElement.getQualifiedName().toString();
+        String mapperName = flatName(recordElement, packageName) + MAPPER_SUFFIX;
+
+        List<? extends RecordComponentElement> components = recordElement.getRecordComponents();
+        List<String> constants = new ArrayList<>();
+        List<String> validations = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+        List<String> nestedMethods = new ArrayList<>();
+        for (int i = 0; i < components.size(); i++) {
+            writeComponent(i, components.get(i), constants, validations, arguments, nestedMethods);
+        }
+
+        try (PrintWriter out = new PrintWriter(
+            processingEnv.getFiler().createSourceFile(packageName + "." + mapperName, recordElement).openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("@javax.annotation.processing.Generated(\"" + RecordMapperProcessor.class.getName() + "\")");
+            out.println("@SuppressWarnings(\"unchecked\")");
+            out.println("public final class " + mapperName + " implements org.jooq.RecordMapper<org.jooq.Record, " + targetType + "> {");
+            constants.forEach(out::println);
+            out.println();
+            out.println("    /**");
+            out.println("     * component 별 중첩 row 의 생성자 인자 -> 중첩 row 의 field index (없으면 -1). 중첩 row 가 아니면 null");
+            out.println("     */");
+            out.println("    private final int[][] positions;");
+            out.println();
+            out.println("    private " + mapperName + "(int[][] positions) {");
+            out.println("        this.positions = positions;");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * 조회 컬럼으로 mapper 를 만든다. 컬럼 수나 타입이 맞지 않으면 null 을 반환한다.");
+            out.println("     */");
+            out.println("    public static " + mapperName + " forFields(org.jooq.Field<?>[] fields) {");
+            out.println("        if (fields.length != " + components.size() + ") {");
+            out.println("            return null;");
+            out.println("        }");
+            out.println();
+            out.println("        int[][] positions = new int[" + components.size() + "][];");
+            validations.forEach(out::println);
+            out.println("        return new " + mapperName + "(positions);");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + targetType + " map(org.jooq.Record record) {");
+            out.println("        return new " + targetType + "(");
+            out.println("            " + String.join(",\n            ", arguments));
+            out.println("        );");
+            out.println("    }");
+            nestedMethods.forEach(out::println);
+            out.println();
+            out.println("    private static boolean accepts(org.jooq.Field<?> field, Class<?> type) {");
+            out.println("        Class<?> fieldType = field.getType();");
+            out.println("        return type.isAssignableFrom(fieldType)");
+            out.println("            || Number.class.isAssignableFrom(type) && Number.class.isAssignableFrom(fieldType);");
+            out.println("    }");
+            out.println();
+            out.println("    private static boolean converted(org.jooq.Field<?> field, Class<?> type) {");
+            out.println("        Class<?> fieldType = field.getType();");
+            out.println("        return !org.jooq.Record.class.isAssignableFrom(fieldType)");
+            out.println("            && !org.jooq.Result.class.isAssignableFrom(fieldType)");
+            out.println("            && type.isAssignableFrom(fieldType);");
+            out.println("    }");
+            out.println();
+            out.println("    private static int[] nestedPositions(org.jooq.Field<?> field, boolean multiset, String[] names, Class<?>[] types) {");
+            out.println("        org.jooq.DataType<?> dataType = field.getDataType();");
+            out.println("        Class<?> nestedType = multiset ? org.jooq.Result.class : org.jooq.Record.class;");
+            out.println("        if (!nestedType.isAssignableFrom(field.getType()) || dataType.getRow() == null) {");
+            out.println("            return null;");
+            out.println("        }");
+            out.println();
+            out.println("        org.jooq.Field<?>[] nestedFields = dataType.getRow().fields();");
+            out.println("        int[] positions = new int[names.length];");
+            out.println("        for (int i = 0; i < names.length; i++) {");
+            out.println("            positions[i] = -1;");
+            out.println("            for (int j = 0; j < nestedFields.length; j++) {");
+            out.println("                if (names[i].equals(normalize(nestedFields[j].getName()))) {");
+            out.println("                    if (!accepts(nestedFields[j], types[i])) {");
+            out.println("                        return null;");
+            out.println("                    }");
+            out.println("                    positions[i] = j;");
+            out.println("                    break;");
+            out.println("                }");
+            out.println("            }");
+            out.println("        }");
+            out.println("        return positions;");
+            out.println("    }");
+            out.println();
+            out.println("    private static String normalize(String name) {");
+            out.println("        return name.replace(\"_\", \"\").toLowerCase(java.util.Locale.ROOT);");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return packageName + "." + mapperName;
+    }
+
+    private void writeComponent(int index, RecordComponentElement component, List<String> constants,
+        List<String> validations, List<String> arguments, List<String> nestedMethods) {
+        TypeMirror type = component.asType();
+        Types typeUtils = processingEnv.getTypeUtils();
+
+        if (type.getKind().isPrimitive()) {
+            String boxed = typeUtils.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+            validations.add(scalarValidation(index, boxed));
+            arguments.add("record.get(" + index + ", " + boxed + ".class)");
+            return;
+        }
+
+        String rawType = typeUtils.erasure(type).toString();
+        if (type.getKind() != TypeKind.DECLARED) {
+            validations.add(scalarValidation(index, rawType));
+            arguments.add("(" + type + ") record.get(" + index + ")");
+            return;
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        boolean list = rawType.equals("java.util.List") && declaredType.getTypeArguments().size() == 1;
+        TypeElement nestedType = (TypeElement) typeUtils.asElement(list ? declaredType.getTypeArguments().get(0) : type);
+
+        if (nestedType == null || !isNested(nestedType)) {
+            validations.add(scalarValidation(index, rawType));
+            arguments.add((declaredType.getTypeArguments().isEmpty() ? "" : "(" + type + ") ")
+                + "record.get(" + index + ", " + rawType + ".class)");
+            return;
+        }
+
+        ExecutableElement constructor = nestedConstructor(nestedType, component);
+        if (constructor == null) {
+            return;
+        }
+
+        String nestedName = nestedType.getQualifiedName().toString();
+        List<String> names = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        List<String> nestedArguments = new ArrayList<>();
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            VariableElement parameter = parameters.get(i);
+            String parameterType = typeUtils.erasure(parameter.asType()).toString();
+            names.add("\"" + parameter.getSimpleName().toString().replace("_", "").toLowerCase(Locale.ROOT) + "\"");
+            types.add(parameterType + ".class");
+            nestedArguments.add("positions[" + i + "] < 0 ? null : "
+                + (parameter.asType().getKind() == TypeKind.DECLARED
+                && !((DeclaredType) parameter.asType()).getTypeArguments().isEmpty() ? "(" + parameter.asType() + ") " : "")
+                + "record.get(positions[" + i + "], " + parameterType + ".class)");
+        }
+
+        constants.add("");
+        constants.add("    private static final String[] COMPONENT" + index + "_NAMES = {" + String.join(", ", names) + "};");
+        constants.add("");
+        constants.add("    private static final Class<?>[] COMPONENT" + index + "_TYPES = {" + String.join(", ", types) + "};");
+
+        validations.add("        positions[" + index + "] = nestedPositions(fields[" + index + "], " + list
+            + ", COMPONENT" + index + "_NAMES, COMPONENT" + index + "_TYPES);");
+        validations.add("        if (positions[" + index + "] == null && !converted(fields[" + index + "], " + rawType + ".class)) {");
+        validations.add("            return null;");
+        validations.add("        }");
+
+        // 중첩 row 가 아니라 이미 변환된 값 (예: convertFrom) 이면 그대로 사용한다.
+        if (list) {
+            arguments.add("positions[" + index + "] == null ? (" + type + ") record.get(" + index + ") : component"
+                + index + "List(record.get(" + index + "))");
+        } else {
+            arguments.add("positions[" + index + "] == null ? (" + nestedName + ") record.get(" + index + ")"
+                + " : record.get(" + index + ") instanceof org.jooq.Record nested" + index
+                + " ? component" + index + "(nested" + index + ") : null");
+        }
+
+        nestedMethods.add("");
+        nestedMethods.add("    private " + nestedName + " component" + index + "(org.jooq.Record record) {");
+        nestedMethods.add("        int[] positions = this.positions[" + index + "];");
+        nestedMethods.add("        return new " + nestedName + "(");
+        nestedMethods.add("            " + String.join(",\n            ", nestedArguments));
+        nestedMethods.add("        );");
+        nestedMethods.add("    }");
+
+        if (list) {
+            nestedMethods.add("");
+            nestedMethods.add("    private java.util.List<" + nestedName + "> component" + index + "List(Object value) {");
+            nestedMethods.add("        if (!(value instanceof org.jooq.Result<?> result)) {");
+            nestedMethods.add("            return null;");
+            nestedMethods.add("        }");
+            nestedMethods.add("");
+            nestedMethods.add("        java.util.List<" + nestedName + "> list = new java.util.ArrayList<>(result.size());");
+            nestedMethods.add("        for (org.jooq.Record element : result) {");
+            nestedMethods.add("            list.add(component" + index + "(element));");
+            nestedMethods.add("        }");
+            nestedMethods.add("        return list;");
+            nestedMethods.add("    }");
+        }
+    }
+
+    private static String scalarValidation(int index, String type) {
+        return "        if (!accepts(fields[" + index + "], " + type + ".class)) {\n"
+            + "            return null;\n"
+            + "        }";
+    }
+
+    /**
+     * DSL.row(...), DSL.multiset(...) 로 조회한 중첩 레코드로 매핑할 타입 (예: jOOQ 가 생성한 POJO)
+     */
+    private static boolean isNested(TypeElement typeElement) {
+        return !typeElement.getQualifiedName().toString().startsWith("java.")
+            && typeElement.getKind() != ElementKind.ENUM;
+    }
+
+    /**
+     * 중첩 타입은 인자가 가장 많은 public 생성자 (jOOQ POJO 의 전체 컬럼 생성자, record 의 canonical constructor) 로 만들고,
+     * 생성자 인자 이름과 중첩 row 의 field 이름 (snake_case, camelCase 구분 없이) 이 같은 값을 넘긴다.
+     */
+    private ExecutableElement nestedConstructor(TypeElement nestedType, Element origin) {
+        ExecutableElement constructor = null;
+        for (ExecutableElement candidate : ElementFilter.constructorsIn(nestedType.getEnclosedElements())) {
+            if (candidate.getModifiers().contains(Modifier.PUBLIC)
+                && (constructor == null || candidate.getParameters().size() > constructor.getParameters().size())) {
+                constructor = candidate;
+            }
+        }
+
+        if (constructor == null || constructor.getParameters().isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                nestedType.getQualifiedName() + " needs a public constructor taking its columns", origin);
+            return null;
+        }
+
+        for (VariableElement parameter : constructor.getParameters()) {
+            if (parameter.asType().getKind().isPrimitive()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    nestedType.getQualifiedName() + " constructor parameters must not be primitive: "
+                        + parameter.getSimpleName(), origin);
+                return null;
+            }
+        }
+
+        return constructor;
+    }
+
+    private void writeRegistry() {
+        String registry = processingEnv.getOptions().getOrDefault(REGISTRY_OPTION, DEFAULT_REGISTRY);
+        int lastDot = registry.lastIndexOf('.');
+        String packageName = registry.substring(0, lastDot);
+        String className = registry.substring(lastDot + 1);
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(registry).openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("@javax.annotation.processing.Generated(\"" + RecordMapperProcessor.class.getName() + "\")");
+            out.println("public final class " + className + " {");
+            out.println();
+            out.println("    private static final java.util.Map<Class<?>, " + FACTORY_TYPE + "> MAPPERS = java.util.Map.ofEntries(");
+            List<String> entries = new ArrayList<>();
+            generatedMappers.forEach((target, mapper) ->
+                entries.add("        java.util.Map.<Class<?>, " + FACTORY_TYPE + ">entry(" + target + ".class, " + mapper + "::forFields)"));
+            out.println(String.join(",\n", entries));
+            out.println("    );");
+            out.println();
+            out.println("    private " + className + "() {");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * 대상 record 타입 -> 조회 컬럼으로 mapper 를 만드는 함수 (컬럼이 맞지 않으면 null 반환)");
+            out.println("     */");
+            out.println("    public static java.util.Map<Class<?>, " + FACTORY_TYPE + "> mappers() {");
+            out.println("        return MAPPERS;");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String flatName(TypeElement typeElement, String packageName) {
+        String qualifiedName = typeElement.getQualifiedName().toString();
+        return qualifiedName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('.', '_');
+    }
+}
@@ -1,3 +1,4 @@
 rootProject.name = "jooq-practice"
 
-include("jooq-custom")
\ No newline at end of file
+include("jooq-custom")
+include("benchmark")
@@ -1,9 +1,11 @@
 package com.example.jooqpractice.actor;
 
+import com.example.jooq.custom.mapper.GenerateRecordMapper;
 import com.example.jooqpractice.tables.pojos.Actor;
 import com.example.jooqpractice.tables.pojos.Film;
 import java.util.List;
 
+@GenerateRecordMapper
 public record ActorFilmography(
     Actor actor,
     List<Film> filmList
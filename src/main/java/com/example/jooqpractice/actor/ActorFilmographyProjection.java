@@ -0,0 +1,32 @@
+package com.example.jooqpractice.actor;
+
+import com.example.jooqpractice.tables.JFilm;
+import java.util.List;
+import org.jooq.Field;
+
+/**
+ * 필모그래피 조회 시 Film 에서 실제로 로딩할 컬럼 범위.
+ * 로딩하지 않은 컬럼은 {@link com.example.jooqpractice.tables.pojos.Film} 에서 null 로 남는다.
+ */
+public enum ActorFilmographyProjection {
+    TITLE(List.of(
+        JFilm.FILM.FILM_ID,
+        JFilm.FILM.TITLE)),
+    SUMMARY(List.of(
+        JFilm.FILM.FILM_ID,
+        JFilm.FILM.TITLE,
+        JFilm.FILM.RELEASE_YEAR,
+        JFilm.FILM.RATING,
+        JFilm.FILM.LENGTH)),
+    FULL(List.of(JFilm.FILM.fields()));
+
+    private final List<Field<?>> fields;
+
+    ActorFilmographyProjection(List<Field<?>> fields) {
+        this.fields = fields;
+    }
+
+    public List<Field<?>> fields() {
+        return fields;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.jooqpractice.actor;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 배우 전체 이름("FIRST LAST")에 대한 in-process trigram 인덱스.
+ * LIKE '%name%' 검색을 actor_id 집합으로 미리 풀어내기 위해 사용한다.
+ * <p>
+ * {@link #rebuild(Collection)} 가 호출되기 전이나 {@link #invalidate()} 이후에는 cold 상태이며,
+ * 이때 {@link #findActorIdsContaining(String)} 는 빈 Optional 을 반환하므로 호출 측에서 SQL 로 대체해야 한다.
+ * <p>
+ * 변경될 때마다 version 이 증가하므로, DB 에서 다시 읽는 도중 변경된 경우 읽은 결과로 덮어쓰지 않는다.
+ * ({@link #rebuild(Collection, long)})
+ */
+public class ActorNameIndex {
+    private static final int GRAM_SIZE = 3;
+
+    private final Map<Long, ActorName> actorNames = new ConcurrentHashMap<>();
+
+    private final Map<Long, String> fullNames = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile boolean warm;
+
+    public record ActorName(Long actorId, String firstName, String lastName) {
+
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * @param expectedVersion DB 에서 이름을 읽기 전에 {@link #version()} 으로 읽은 값
+     * @return 읽는 도중 변경되어 반영하지 않았으면 false
+     */
+    public synchronized boolean rebuild(Collection<ActorName> actorNames, long expectedVersion) {
+        if (version.get() != expectedVersion) {
+            return false;
+        }
+
+        rebuild(actorNames);
+        return true;
+    }
+
+    public synchronized void rebuild(Collection<ActorName> actorNames) {
+        this.actorNames.clear();
+        fullNames.clear();
+        postings.clear();
+        actorNames.forEach(this::index);
+        warm = true;
+    }
+
+    public synchronized void invalidate() {
+        version.incrementAndGet();
+        warm = false;
+        actorNames.clear();
+        fullNames.clear();
+        postings.clear();
+    }
+
+    public synchronized void put(Long actorId, String firstName, String lastName) {
+        // cold 상태에서도 증가시켜야 다시 읽는 도중 커밋된 변경을 놓친 결과로 warm 상태가 되지 않는다.
+        version.incrementAndGet();
+        if (!warm || actorId == null) {
+            return;
+        }
+
+        remove(actorId);
+        index(new ActorName(actorId, firstName, lastName));
+    }
+
+    public synchronized void remove(Long actorId) {
+        version.incrementAndGet();
+        if (!warm || actorId == null) {
+            return;
+        }
+
+        actorNames.remove(actorId);
+        String fullName = fullNames.remove(actorId);
+        if (fullName == null) {
+            return;
+        }
+
+        for (String gram : grams(fullName)) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(actorId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * 이름 일부만 변경된 경우 (null 인 값은 기존 값을 유지한다).
+     */
+    public synchronized void merge(Long actorId, String firstName, String lastName) {
+        if (!warm || actorId == null) {
+            return;
+        }
+
+        ActorName actorName = actorNames.get(actorId);
+        if (actorName == null) {
+            // 인덱스에 없는 배우의 이름 일부만 알고 있으므로 정확한 전체 이름을 알 수 없다.
+            invalidate();
+            return;
+        }
+
+        put(actorId,
+            firstName != null ? firstName : actorName.firstName(),
+            lastName != null ? lastName : actorName.lastName());
+    }
+
+    public Optional<Set<Long>> findActorIdsContaining(String keyword) {
+        if (!warm) {
+            return Optional.empty();
+        }
+
+        String normalized = normalize(keyword);
+
+        if (normalized.length() < GRAM_SIZE) {
+            return Optional.of(scan(normalized));
+        }
+
+        Set<Long> candidates = null;
+        for (String gram : grams(normalized)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Optional.of(Set.of());
+            }
+
+            if (candidates == null) {
+                candidates = new HashSet<>(ids);
+            } else {
+                candidates.retainAll(ids);
+            }
+
+            if (candidates.isEmpty()) {
+                return Optional.of(Set.of());
+            }
+        }
+
+        // trigram 교집합은 후보일 뿐이므로 (순서가 다른 경우) 실제 포함 여부를 검증한다.
+        candidates.removeIf(actorId -> {
+            String fullName = fullNames.get(actorId);
+            return fullName == null || !fullName.contains(normalized);
+        });
+
+        return Optional.of(candidates);
+    }
+
+    private Set<Long> scan(String normalized) {
+        return fullNames.entrySet().stream()
+            .filter(entry -> entry.getValue().contains(normalized))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+    }
+
+    private void index(ActorName actorName) {
+        String fullName = normalize(actorName.firstName() + " " + actorName.lastName());
+        actorNames.put(actorName.actorId(), actorName);
+        fullNames.put(actorName.actorId(), fullName);
+
+        for (String gram : grams(fullName)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet())
+                .add(actorName.actorId());
+        }
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        // MySQL 기본 collation(utf8_general_ci) 과 같이 대소문자를 구분하지 않는다.
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.jooqpractice.actor;
 
 import static com.example.jooqpractice.utils.jooq.JooqListConditionUtil.inIfNotEmpty;
+import static com.example.jooqpractice.utils.transaction.TransactionCallbackUtil.runAfterCommit;
 
+import com.example.jooqpractice.cache.EntityCache;
+import com.example.jooqpractice.config.datasource.ReplicaRead;
+import com.example.jooqpractice.config.datasource.ReplicaRoutingContext;
 import com.example.jooqpractice.tables.JActor;
 import com.example.jooqpractice.tables.JFilm;
 import com.example.jooqpractice.tables.JFilmActor;
@@ -9,35 +13,104 @@ import com.example.jooqpractice.tables.daos.ActorDao;
 import com.example.jooqpractice.tables.pojos.Actor;
 import com.example.jooqpractice.tables.pojos.Film;
 import com.example.jooqpractice.tables.records.ActorRecord;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.BatchBindStep;
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.DatePart;
 import org.jooq.Field;
+import org.jooq.Loader;
+import org.jooq.LoaderError;
+import org.jooq.Query;
+import org.jooq.Records;
 import org.jooq.Row2;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
 import org.jspecify.annotations.NonNull;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+@Slf4j
 @Repository
 public class ActorRepository {
     private static final JFilmActor FILM_ACTOR = JFilmActor.FILM_ACTOR;
     private static final JFilm FILM = JFilm.FILM;
     private static final JActor ACTOR = JActor.ACTOR;
 
+    public static final int DEFAULT_BULK_INSERT_CHUNK_SIZE = 1_000;
+
+    // MySQL prepared statement 의 placeholder 는 최대 65,535 개이며, actor 1건당 2개(first_name, last_name)를 사용한다.
+    private static final int MAX_BULK_INSERT_CHUNK_SIZE = 65_535 / 2;
+
+    // 이름 검색 결과가 이보다 많으면 IN 목록이 지나치게 길어지므로 인덱스 대신 LIKE 로 검색한다.
+    static final int MAX_INDEXED_ACTOR_IDS = 2_000;
+
     private final DSLContext dslContext;
 
     @SuppressWarnings("unused")
     private final ActorDao actorDao;
 
-    public ActorRepository(DSLContext dslContext, Configuration configuration) {
+    private final ActorNameIndex actorNameIndex = new ActorNameIndex();
+
+    private final EntityCache entityCache;
+
+    public ActorRepository(DSLContext dslContext, Configuration configuration, EntityCache entityCache) {
         this.dslContext = dslContext;
         this.actorDao = new ActorDao(configuration);
+        this.entityCache = entityCache;
+    }
+
+    /**
+     * 이름 인덱스를 DB 의 actor 로 다시 채운다.
+     * 다른 인스턴스, Plain SQL, LOAD DATA 처럼 이 Repository 를 거치지 않은 변경을 바로잡기 위해 reconcile-interval 마다 실행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jooq.actor-name-index.reconcile-interval:10m}",
+        initialDelayString = "${jooq.actor-name-index.reconcile-interval:10m}")
+    public void rebuildActorNameIndex() {
+        long version = actorNameIndex.version();
+
+        List<ActorNameIndex.ActorName> actorNames = ReplicaRoutingContext.onPrimary(() -> dslContext
+            .select(ACTOR.ACTOR_ID, ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
+            .from(ACTOR)
+            .fetch(Records.mapping(ActorNameIndex.ActorName::new)));
+
+        if (!actorNameIndex.rebuild(actorNames, version)) {
+            log.debug("배우 이름 인덱스를 다시 읽는 중 actor 가 변경되어 다음 주기에 다시 읽습니다.");
+        }
+    }
+
+    /**
+     * 무효화된 이름 인덱스를 다시 구성한다. cold 상태 동안 이름 검색은 LIKE 로 대체된다.
+     */
+    @Scheduled(fixedDelayString = "${jooq.actor-name-index.refresh-interval:5s}")
+    public void refreshActorNameIndexIfInvalidated() {
+        if (!actorNameIndex.isWarm()) {
+            rebuildActorNameIndex();
+        }
     }
 
+    /**
+     * 이 Repository 를 거치지 않고 actor 를 적재한 경우(LOAD DATA 등) 이름 인덱스를 cold 로 돌려 다음 refresh 주기에 다시 구성한다.
+     */
+    public void invalidateActorNameIndex() {
+        actorNameIndex.invalidate();
+    }
+
+    @ReplicaRead
     public List<Actor> findBytFirstNameAndLastName(String firstName, String lastName) {
         return dslContext.selectFrom(JActor.ACTOR)
             .where(
@@ -47,6 +120,7 @@ public class ActorRepository {
             ).fetchInto(Actor.class);
     }
 
+    @ReplicaRead
     public List<Actor> findBytFirstNameOrLastName(String firstName, String lastName) {
         return dslContext.selectFrom(JActor.ACTOR)
             .where(
@@ -55,12 +129,14 @@ public class ActorRepository {
             ).fetchInto(Actor.class);
     }
 
+    @ReplicaRead
     public List<Actor> findByActorIdIn(List<Long> actorIds) {
         return dslContext.selectFrom(JActor.ACTOR)
             .where(inIfNotEmpty(JActor.ACTOR.ACTOR_ID, actorIds))
             .fetchInto(Actor.class);
     }
 
+    @ReplicaRead
     public List<ActorFilmography> findActorFilmography(ActorFilmographySearchOption searchOption) {
         Map<Actor, List<Film>> actorListMap = dslContext.select(
                 DSL.row(ACTOR.fields()).as("actor"),
@@ -69,7 +145,7 @@ public class ActorRepository {
             .leftJoin(FILM_ACTOR).on(FILM_ACTOR.ACTOR_ID.eq(ACTOR.ACTOR_ID))
             .leftJoin(FILM).on(FILM.FILM_ID.eq(FILM_ACTOR.FILM_ID))
             .where(
-                containsIfNotBlank(ACTOR.FIRST_NAME.concat(" ").concat(ACTOR.LAST_NAME), searchOption.actorName()),
+                actorNameContainsIfNotBlank(searchOption.actorName()),
                 containsIfNotBlank(FILM.TITLE, searchOption.filmTitle())
             ).fetchGroups(it -> it.get("actor", Actor.class),
                 it -> it.get("film", Film.class));
@@ -79,6 +155,60 @@ public class ActorRepository {
             .toList();
     }
 
+    @ReplicaRead
+    public List<ActorFilmography> findActorFilmographyByMultiset(ActorFilmographySearchOption searchOption) {
+        return findActorFilmographyByMultiset(searchOption, ActorFilmographyProjection.FULL);
+    }
+
+    @ReplicaRead
+    public List<ActorFilmography> findActorFilmographyByMultiset(
+        ActorFilmographySearchOption searchOption, ActorFilmographyProjection projection) {
+        // 배우 1명당 1행, 필모그래피는 MULTISET (MySQL 에서는 JSON_ARRAYAGG 로 에뮬레이션) 으로 중첩하여 조회한다.
+        Condition filmTitleCondition = containsIfNotBlank(FILM.TITLE, searchOption.filmTitle());
+
+        // 중첩 row / MULTISET 은 생성된 ActorFilmographyRecordMapper 가 field 이름으로 Actor, Film 생성자에 매핑한다.
+        return dslContext.select(
+                DSL.row(ACTOR.fields()),
+                DSL.multiset(
+                    DSL.select(projection.fields())
+                        .from(FILM_ACTOR)
+                        .join(FILM).on(FILM.FILM_ID.eq(FILM_ACTOR.FILM_ID))
+                        .where(FILM_ACTOR.ACTOR_ID.eq(ACTOR.ACTOR_ID), filmTitleCondition)
+                        .orderBy(FILM.FILM_ID)
+                )
+            ).from(ACTOR)
+            .where(
+                actorNameContainsIfNotBlank(searchOption.actorName()),
+                existsFilmIfNotBlank(searchOption.filmTitle(), filmTitleCondition)
+            )
+            .orderBy(ACTOR.ACTOR_ID)
+            .fetchInto(ActorFilmography.class);
+    }
+
+    private Condition existsFilmIfNotBlank(String filmTitle, Condition filmTitleCondition) {
+        if (filmTitle == null || filmTitle.isBlank()) {
+            return DSL.noCondition();
+        }
+
+        return DSL.exists(DSL.selectOne()
+            .from(FILM_ACTOR)
+            .join(FILM).on(FILM.FILM_ID.eq(FILM_ACTOR.FILM_ID))
+            .where(FILM_ACTOR.ACTOR_ID.eq(ACTOR.ACTOR_ID), filmTitleCondition));
+    }
+
+    private Condition actorNameContainsIfNotBlank(String actorName) {
+        if (actorName == null || actorName.isBlank()) {
+            return DSL.noCondition();
+        }
+
+        // 인덱스가 준비되어 있으면 이름 검색을 actor_id 집합으로 풀어서 PK 조회로 대체하고,
+        // cold 상태이거나 일치하는 배우가 너무 많으면 LIKE 로 대체한다.
+        return actorNameIndex.findActorIdsContaining(actorName)
+            .filter(actorIds -> actorIds.size() <= MAX_INDEXED_ACTOR_IDS)
+            .map(actorIds -> actorIds.isEmpty() ? DSL.falseCondition() : ACTOR.ACTOR_ID.in(actorIds))
+            .orElseGet(() -> containsIfNotBlank(ACTOR.FIRST_NAME.concat(" ").concat(ACTOR.LAST_NAME), actorName));
+    }
+
     private Condition containsIfNotBlank(Field<String> field, String inputValue) {
         if (inputValue == null || inputValue.isBlank()) {
             return DSL.noCondition();
@@ -89,65 +219,158 @@ public class ActorRepository {
 
     public Long saveByDao(Actor actor) {
         actorDao.insert(actor);
-        return dslContext.lastID().longValue();
+        Long actorId = dslContext.lastID().longValue();
+        runAfterCommit(() -> actorNameIndex.put(actorId, actor.getFirstName(), actor.getLastName()));
+        return actorId;
     }
 
     public Optional<Actor> findById(Long actorId) {
-        return Optional.ofNullable(actorDao.findById(actorId));
+        return Optional.ofNullable(entityCache.get(ACTOR, actorId, Actor.class, () -> actorDao.findById(actorId), Actor::new));
     }
 
     public ActorRecord saveByActiveRecord(Actor actor) {
         ActorRecord actorRecord = dslContext.newRecord(ACTOR, actor);
         actorRecord.insert();
+        runAfterCommit(() -> actorNameIndex.put(actorRecord.getActorId(), actorRecord.getFirstName(), actorRecord.getLastName()));
         return actorRecord;
     }
 
     public Long saveWithReturningPkOnly(Actor actor) {
-        return dslContext.insertInto(ACTOR, ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
+        Long actorId = dslContext.insertInto(ACTOR, ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
             .values(actor.getFirstName(), actor.getLastName())
             .returningResult(ACTOR.ACTOR_ID)
             .fetchOneInto(Long.class);
+
+        runAfterCommit(() -> actorNameIndex.put(actorId, actor.getFirstName(), actor.getLastName()));
+        return actorId;
     }
 
     public Actor saveWithReturning(Actor actor) {
-        return dslContext.insertInto(ACTOR, ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
+        Actor savedActor = dslContext.insertInto(ACTOR, ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
             .values(actor.getFirstName(), actor.getLastName())
             .returning(ACTOR.fields())
             .fetchOneInto(Actor.class);
+
+        runAfterCommit(() -> indexActor(savedActor));
+        return savedActor;
     }
 
     public void bulkInsert(List<Actor> actors) {
-        List<Row2<String, String>> rows = getActorRows(actors);
-
-        // Bulk Insert 수행
-        dslContext.insertInto(ACTOR, ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
-            .valuesOfRows(rows)
-            .execute();
+        // 이름 인덱스에 새 행만 추가하기 위해 생성된 PK 를 함께 받는다. (MySQL 은 추가 조회 없이 generated keys 로 받는다.)
+        bulkInsertAndReturnPks(actors);
     }
 
     public List<Long> bulkInsertAndReturnPks(List<Actor> actors) {
         List<Row2<String, String>> rows = getActorRows(actors);
 
         // Bulk Insert 후, PK 반환
-        return dslContext.insertInto(ACTOR, ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
+        List<Long> actorIds = dslContext.insertInto(ACTOR, ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
             .valuesOfRows(rows)
             .returning(ACTOR.ACTOR_ID)
             .fetch()
             .getValues(ACTOR.ACTOR_ID);
+
+        runAfterCommit(() -> {
+            for (int i = 0; i < actorIds.size(); i++) {
+                actorNameIndex.put(actorIds.get(i), actors.get(i).getFirstName(), actors.get(i).getLastName());
+            }
+        });
+        return actorIds;
     }
 
     public List<Actor> bulkInsertAndReturnPojos(List<Actor> actors) {
         List<Row2<String, String>> rows = getActorRows(actors);
 
         // Bulk Insert 후, 전체 컬럼 반환
-        return dslContext.insertInto(ACTOR, ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
+        List<Actor> savedActors = dslContext.insertInto(ACTOR, ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
             .valuesOfRows(rows)
             .returning(ACTOR.fields())
             .fetchInto(Actor.class);
+
+        runAfterCommit(() -> savedActors.forEach(this::indexActor));
+        return savedActors;
+    }
+
+    public List<Long> bulkInsertInChunks(Stream<Actor> actors) {
+        return bulkInsertInChunks(actors.iterator(), DEFAULT_BULK_INSERT_CHUNK_SIZE);
+    }
+
+    public List<Long> bulkInsertInChunks(Stream<Actor> actors, int chunkSize) {
+        return bulkInsertInChunks(actors.iterator(), chunkSize);
+    }
+
+    /**
+     * chunkSize 건씩 나누어 multi-row INSERT 를 실행하고, 생성된 PK 를 입력 순서대로 반환한다.
+     * 전체 입력을 한 번에 메모리에 올리지 않으며, 하나의 SQL 이 max_allowed_packet 이나 placeholder 제한을 넘지 않도록 한다.
+     */
+    public List<Long> bulkInsertInChunks(Iterator<Actor> actors, int chunkSize) {
+        validateChunkSize(chunkSize);
+
+        List<Long> actorIds = new ArrayList<>();
+        List<Actor> chunk = new ArrayList<>(chunkSize);
+
+        while (actors.hasNext()) {
+            chunk.add(actors.next());
+
+            if (chunk.size() == chunkSize || !actors.hasNext()) {
+                actorIds.addAll(bulkInsertAndReturnPks(chunk));
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+
+        return actorIds;
+    }
+
+    /**
+     * 생성된 PK 가 필요 없는 대량 적재는 jOOQ Loader API 로 batchSize 건씩 multi-row INSERT 한다.
+     * 트랜잭션 경계는 호출 측(Spring)에 맡긴다.
+     */
+    public int bulkLoad(Stream<Actor> actors, int chunkSize) {
+        validateChunkSize(chunkSize);
+
+        Loader<ActorRecord> loader;
+        try {
+            loader = dslContext.loadInto(ACTOR)
+                .bulkAfter(chunkSize)
+                .commitNone()
+                .onErrorAbort()
+                .loadArrays(actors.map(actor -> new Object[] {actor.getFirstName(), actor.getLastName()}))
+                .fields(ACTOR.FIRST_NAME, ACTOR.LAST_NAME)
+                .execute();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Loader 는 오류가 나도 예외 없이 중단하므로, 직접 예외를 던져 이미 적재된 chunk 까지 트랜잭션을 롤백시킨다.
+        if (!loader.errors().isEmpty()) {
+            LoaderError error = loader.errors().getFirst();
+            throw new DataAccessException(
+                "Failed to load actor at row " + error.rowIndex() + ": " + error.exception().getMessage(),
+                error.exception());
+        }
+
+        if (loader.ignored() > 0) {
+            throw new DataAccessException(loader.ignored() + " actors were not loaded");
+        }
+
+        // Loader 는 생성된 PK 를 반환하지 않으므로 인덱스를 cold 로 돌리고, 다음 refresh 주기에 한 번만 다시 구성한다.
+        runAfterCommit(actorNameIndex::invalidate);
+        return loader.stored();
+    }
+
+    private static void validateChunkSize(int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_BULK_INSERT_CHUNK_SIZE) {
+            throw new IllegalArgumentException(
+                "chunkSize must be between 1 and " + MAX_BULK_INSERT_CHUNK_SIZE + ": " + chunkSize);
+        }
     }
 
     public void update(Actor actor) {
         actorDao.update(actor);
+        runAfterCommit(() -> {
+            indexActor(actor);
+            entityCache.invalidate(ACTOR, actor.getActorId());
+        });
     }
 
     public void updateWithDto(Long id, ActorUpdateRequest request) {
@@ -159,6 +382,13 @@ public class ActorRepository {
             .set(ACTOR.LAST_NAME, lastName)
             .where(ACTOR.ACTOR_ID.eq(id))
             .execute();
+
+        runAfterCommit(() -> {
+            actorNameIndex.merge(id,
+                StringUtils.hasText(request.firstName()) ? request.firstName() : null,
+                StringUtils.hasText(request.lastName()) ? request.lastName() : null);
+            entityCache.invalidate(ACTOR, id);
+        });
     }
 
     public void updateWithRecord(Long id, ActorUpdateRequest request) {
@@ -182,6 +412,11 @@ public class ActorRepository {
             .set(actorRecord)
             .where(ACTOR.ACTOR_ID.eq(id))
             .execute();
+
+        runAfterCommit(() -> {
+            actorNameIndex.put(id, actorRecord.getFirstName(), actorRecord.getLastName());
+            entityCache.invalidate(ACTOR, id);
+        });
     }
 
     public void updateWithActiveRecord(Long id, ActorUpdateRequest request) {
@@ -204,16 +439,30 @@ public class ActorRepository {
         // actorRecord.store();  // Upsert
         // actorRecord.insert(); // Insert Only
         actorRecord.update();    // Update Only
+
+        runAfterCommit(() -> {
+            actorNameIndex.put(id, actorRecord.getFirstName(), actorRecord.getLastName());
+            entityCache.invalidate(ACTOR, id);
+        });
     }
 
     public void deleteByIdWithDao(Long id) {
         actorDao.deleteById(id);
+        runAfterCommit(() -> {
+            actorNameIndex.remove(id);
+            entityCache.invalidate(ACTOR, id);
+        });
     }
 
     public void deleteByIdWithDslContext(Long id) {
         dslContext.deleteFrom(ACTOR)
             .where(ACTOR.ACTOR_ID.eq(id))
             .execute();
+
+        runAfterCommit(() -> {
+            actorNameIndex.remove(id);
+            entityCache.invalidate(ACTOR, id);
+        });
     }
 
     public void deleteByIdWithActiveRecord(Long id) {
@@ -226,6 +475,103 @@ public class ActorRepository {
         }
 
         actorRecord.delete();
+        runAfterCommit(() -> {
+            actorNameIndex.remove(id);
+            entityCache.invalidate(ACTOR, id);
+        });
+    }
+
+    /**
+     * last_update 를 버전으로 사용하여, 조회 없이 UPDATE 한 번으로 변경한다.
+     * 그 사이 다른 곳에서 변경되었거나 (last_update 가 다름) 존재하지 않는 배우면 변경하지 않는다.
+     *
+     * @return 변경되었으면 true
+     */
+    public boolean updateIfNotModified(Long id, LocalDateTime lastUpdate, ActorUpdateRequest request) {
+        boolean updated = optimisticUpdate(blankToNull(request.firstName()), blankToNull(request.lastName()), id, lastUpdate)
+            .execute() == 1;
+
+        if (updated) {
+            afterActorUpdated(id, request);
+        }
+        return updated;
+    }
+
+    /**
+     * 여러 배우의 변경을 하나의 statement batch 로 적용한다. 각 요청은 {@link #updateIfNotModified} 와 같이 last_update 로 충돌을 확인한다.
+     *
+     * @return 요청 순서대로 변경 여부
+     */
+    public List<Boolean> updateAllIfNotModified(List<VersionedActorUpdateRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        BatchBindStep batch = dslContext.batch(optimisticUpdate(null, null, null, null));
+        for (VersionedActorUpdateRequest request : requests) {
+            batch = batch.bind(
+                blankToNull(request.request().firstName()),
+                blankToNull(request.request().lastName()),
+                request.actorId(),
+                request.lastUpdate());
+        }
+
+        int[] updatedRows = batch.execute();
+
+        List<Boolean> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            boolean updated = updatedRows[i] == 1;
+            if (updated) {
+                afterActorUpdated(requests.get(i).actorId(), requests.get(i).request());
+            }
+            results.add(updated);
+        }
+        return results;
+    }
+
+    /**
+     * @return 삭제되었으면 true, 그 사이 변경되었거나 존재하지 않는 배우면 false
+     */
+    public boolean deleteByIdIfNotModified(Long id, LocalDateTime lastUpdate) {
+        boolean deleted = dslContext.deleteFrom(ACTOR)
+            .where(
+                ACTOR.ACTOR_ID.eq(id),
+                ACTOR.LAST_UPDATE.eq(lastUpdate)
+            ).execute() == 1;
+
+        if (deleted) {
+            runAfterCommit(() -> {
+                actorNameIndex.remove(id);
+                entityCache.invalidate(ACTOR, id);
+            });
+        }
+        return deleted;
+    }
+
+    private Query optimisticUpdate(String firstName, String lastName, Long id, LocalDateTime lastUpdate) {
+        // batch 에서도 같은 SQL 을 사용할 수 있도록, 변경하지 않는 컬럼은 null 을 bind 하여 기존 값을 유지한다.
+        return dslContext.update(ACTOR)
+            .set(ACTOR.FIRST_NAME, DSL.coalesce(DSL.val(firstName, ACTOR.FIRST_NAME), ACTOR.FIRST_NAME))
+            .set(ACTOR.LAST_NAME, DSL.coalesce(DSL.val(lastName, ACTOR.LAST_NAME), ACTOR.LAST_NAME))
+            // last_update 는 초 단위이므로, 같은 초 안에 다시 변경되더라도 버전이 바뀌도록 최소 1초 증가시킨다.
+            .set(ACTOR.LAST_UPDATE, DSL.greatest(
+                DSL.currentLocalDateTime(),
+                DSL.localDateTimeAdd(ACTOR.LAST_UPDATE, DSL.inline(1), DatePart.SECOND)))
+            .where(
+                ACTOR.ACTOR_ID.eq(DSL.val(id, ACTOR.ACTOR_ID)),
+                ACTOR.LAST_UPDATE.eq(DSL.val(lastUpdate, ACTOR.LAST_UPDATE))
+            );
+    }
+
+    private void afterActorUpdated(Long id, ActorUpdateRequest request) {
+        runAfterCommit(() -> {
+            actorNameIndex.merge(id, blankToNull(request.firstName()), blankToNull(request.lastName()));
+            entityCache.invalidate(ACTOR, id);
+        });
+    }
+
+    private static String blankToNull(String value) {
+        return StringUtils.hasText(value) ? value : null;
     }
 
     private static @NonNull List<Row2<String, String>> getActorRows(List<Actor> actors) {
@@ -236,6 +582,10 @@ public class ActorRepository {
             .toList();
     }
 
+    private void indexActor(Actor actor) {
+        actorNameIndex.put(actor.getActorId(), actor.getFirstName(), actor.getLastName());
+    }
+
     public ActorRecord findRecordByActorId(Long actorId) {
         return dslContext.fetchOne(ACTOR, ACTOR.ACTOR_ID.eq(actorId));
     }
@@ -0,0 +1,14 @@
+package com.example.jooqpractice.actor;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param lastUpdate 변경하려는 배우를 조회했을 때의 last_update (이후 다른 곳에서 변경되었다면 적용하지 않는다)
+ */
+public record VersionedActorUpdateRequest(
+    Long actorId,
+    LocalDateTime lastUpdate,
+    ActorUpdateRequest request
+) {
+
+}
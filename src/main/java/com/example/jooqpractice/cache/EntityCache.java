@@ -0,0 +1,94 @@
+package com.example.jooqpractice.cache;
+
+import com.example.jooqpractice.config.datasource.ReplicaRoutingContext;
+import com.example.jooqpractice.utils.transaction.TransactionCallbackUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.jooq.Table;
+import org.springframework.stereotype.Component;
+
+/**
+ * (테이블, PK, 조회 타입) 을 키로 하는 read-through 캐시.
+ * <p>
+ * 쓰기 가능한 트랜잭션 안에서는 커밋되지 않은 값이 캐시에 들어가지 않도록 캐시를 거치지 않고 바로 조회한다.
+ * 조회 결과가 null 이면 캐시하지 않는다.
+ */
+@Component
+public class EntityCache {
+    static final String CACHE_NAME = "entityCache";
+
+    private record Key(String table, Object id, Class<?> type) {
+
+    }
+
+    private final boolean enabled;
+
+    private final Cache<Key, Object> cache;
+
+    private final Map<String, Set<Class<?>>> cachedTypesByTable = new ConcurrentHashMap<>();
+
+    public EntityCache(EntityCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 불변 타입(Java record 등)을 조회한다.
+     */
+    public <T> T get(Table<?> table, Object id, Class<T> type, Supplier<T> loader) {
+        return get(table, id, type, loader, UnaryOperator.identity());
+    }
+
+    /**
+     * 가변 타입(jOOQ 가 생성한 POJO 등)은 캐시된 인스턴스가 호출 측에서 변경되지 않도록 copier 로 복사하여 반환한다.
+     */
+    public <T> T get(Table<?> table, Object id, Class<T> type, Supplier<T> loader, UnaryOperator<T> copier) {
+        if (!enabled || id == null || TransactionCallbackUtil.isInWritableTransaction()) {
+            return loader.get();
+        }
+
+        cachedTypesByTable.computeIfAbsent(table.getName(), key -> ConcurrentHashMap.newKeySet()).add(type);
+
+        // replica 의 지연된 값을 expire-after-write 동안 보관하지 않도록 primary 에서 채운다.
+        T cached = type.cast(cache.get(new Key(table.getName(), id, type), key -> ReplicaRoutingContext.onPrimary(loader)));
+        return cached == null ? null : copier.apply(cached);
+    }
+
+    public void invalidate(Table<?> table, Object id) {
+        invalidate(table.getName(), id);
+    }
+
+    public void invalidate(String tableName, Object id) {
+        Set<Class<?>> cachedTypes = cachedTypesByTable.get(tableName);
+        if (cachedTypes == null || id == null) {
+            return;
+        }
+
+        cachedTypes.forEach(type -> cache.invalidate(new Key(tableName, id, type)));
+    }
+
+    public void invalidateAll(String tableName) {
+        if (!cachedTypesByTable.containsKey(tableName)) {
+            return;
+        }
+
+        cache.asMap().keySet().removeIf(key -> key.table().equals(tableName));
+    }
+
+    boolean isCached(Table<?> table, Object id, Class<?> type) {
+        return cache.getIfPresent(new Key(table.getName(), id, type)) != null;
+    }
+}
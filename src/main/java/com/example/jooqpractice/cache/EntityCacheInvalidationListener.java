@@ -0,0 +1,104 @@
+package com.example.jooqpractice.cache;
+
+import com.example.jooqpractice.utils.transaction.TransactionCallbackUtil;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.RecordContext;
+import org.jooq.RecordListener;
+import org.jooq.UpdatableRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repository 를 거치지 않는 DML 에 대해서도 {@link EntityCache} 를 무효화한다.
+ * <ul>
+ *     <li>RecordListener: UpdatableRecord 의 update/delete/store 는 PK 단위로 무효화한다.</li>
+ *     <li>ExecuteListener: DSL 로 작성된 UPDATE/DELETE 는 WHERE 가 PK 로 대상 row 를 한정하면 그 PK 만,
+ *     한정할 수 없으면 테이블 단위로 무효화한다.</li>
+ * </ul>
+ * INSERT 는 기존 row 를 바꾸지 않고, 조회 결과가 없는 PK 는 캐시하지 않으므로 무효화하지 않는다. (ON DUPLICATE KEY UPDATE 는 제외)
+ * 실행 직후와 커밋 이후에 모두 무효화하여, 커밋 전에 다른 스레드가 이전 값을 다시 캐시하는 경우를 막는다.
+ */
+@Component
+public class EntityCacheInvalidationListener implements ExecuteListener, RecordListener {
+    private final EntityCache entityCache;
+
+    public EntityCacheInvalidationListener(EntityCache entityCache) {
+        this.entityCache = entityCache;
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        Set<String> writtenTables = new HashSet<>();
+        Map<String, Set<Object>> writtenIdsByTable = new HashMap<>();
+
+        // batch(query).bind(...) 는 하나의 쿼리를 여러 bind 값으로 실행하므로 (query() 가 null 이고 쿼리가 1개),
+        // 쿼리 객체에 남은 bind 값으로 PK 를 구할 수 없어 테이블 단위로 무효화한다.
+        Query[] queries = ctx.batchQueries();
+        if (queries.length == 0 && ctx.query() != null) {
+            queries = new Query[] {ctx.query()};
+        }
+        boolean bindValuesKnown = ctx.query() != null || queries.length > 1;
+
+        for (Query query : queries) {
+            if (QueryTables.isPlainInsert(query)) {
+                continue;
+            }
+
+            Optional<Set<Object>> ids = bindValuesKnown ? QueryTables.writtenPrimaryKeys(query) : Optional.empty();
+            for (String tableName : QueryTables.writtenTables(query)) {
+                if (ids.isPresent()) {
+                    writtenIdsByTable.computeIfAbsent(tableName, key -> new HashSet<>()).addAll(ids.get());
+                } else {
+                    writtenTables.add(tableName);
+                }
+            }
+        }
+
+        writtenIdsByTable.keySet().removeAll(writtenTables);
+        if (writtenTables.isEmpty() && writtenIdsByTable.isEmpty()) {
+            return;
+        }
+
+        invalidate(writtenTables, writtenIdsByTable);
+        TransactionCallbackUtil.runAfterCommit(() -> invalidate(writtenTables, writtenIdsByTable));
+    }
+
+    @Override
+    public void updateEnd(RecordContext ctx) {
+        invalidateRecord(ctx.record());
+    }
+
+    @Override
+    public void deleteEnd(RecordContext ctx) {
+        invalidateRecord(ctx.record());
+    }
+
+    @Override
+    public void storeEnd(RecordContext ctx) {
+        invalidateRecord(ctx.record());
+    }
+
+    private void invalidate(Set<String> writtenTables, Map<String, Set<Object>> writtenIdsByTable) {
+        writtenTables.forEach(entityCache::invalidateAll);
+        writtenIdsByTable.forEach((tableName, ids) -> ids.forEach(id -> entityCache.invalidate(tableName, id)));
+    }
+
+    private void invalidateRecord(Record record) {
+        if (!(record instanceof UpdatableRecord<?> updatableRecord) || updatableRecord.key().size() != 1) {
+            return;
+        }
+
+        String tableName = updatableRecord.getTable().getName();
+        Object id = updatableRecord.key().get(0);
+
+        entityCache.invalidate(tableName, id);
+        TransactionCallbackUtil.runAfterCommit(() -> entityCache.invalidate(tableName, id));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.jooqpractice.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled          false 면 항상 DB 를 조회한다.
+ * @param maximumSize      캐시할 최대 엔트리 수
+ * @param expireAfterWrite 엔트리가 적재된 후 만료되기까지의 시간
+ */
+@ConfigurationProperties("jooq.entity-cache")
+public record EntityCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("10m") Duration expireAfterWrite
+) {
+
+}
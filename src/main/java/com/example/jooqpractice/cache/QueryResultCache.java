@@ -0,0 +1,169 @@
+package com.example.jooqpractice.cache;
+
+import com.example.jooqpractice.config.ExecutionMetricsListener;
+import com.example.jooqpractice.config.datasource.ReplicaRoutingContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.tools.jdbc.MockConnection;
+import org.springframework.stereotype.Component;
+
+/**
+ * (렌더링된 SQL, bind 값) 을 키로 하는 조회 결과 캐시.
+ * <p>
+ * {@link #cachingDsl(DSLContext)} 로 얻은 DSLContext 로 실행한 SELECT 만 캐시하므로 (opt-in),
+ * 비싼 집계 쿼리처럼 같은 인자로 반복 실행되는 쿼리에만 사용한다.
+ * 결과마다 읽은 테이블을 기록해 두고, 해당 테이블에 DML 이 실행되면 {@link QueryResultCacheListener} 가 무효화한다.
+ */
+@Component
+public class QueryResultCache {
+    static final String CACHE_NAME = "queryResultCache";
+
+    static final String HIT_RATIO_METRIC_NAME = "jooq.query.result.cache.hit.ratio";
+
+    record Key(String sql, List<Object> bindings) {
+
+        Key(String sql, Object[] bindings) {
+            this(sql, Arrays.asList(bindings.clone()));
+        }
+    }
+
+    private record CachedResult(Result<Record> result, Set<String> tables) {
+
+    }
+
+    private final boolean enabled;
+
+    private final Cache<Key, CachedResult> cache;
+
+    private final Map<String, Set<Key>> keysByTable = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+
+    private final AtomicLong allTablesVersion = new AtomicLong();
+
+    private final Map<Configuration, DSLContext> cachingDslContexts = new ConcurrentHashMap<>();
+
+    public QueryResultCache(QueryResultCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .<Key, CachedResult>removalListener((key, value, cause) -> {
+                if (key != null && value != null) {
+                    value.tables().forEach(table -> keysByTable.computeIfPresent(table, (name, keys) -> {
+                        keys.remove(key);
+                        return keys.isEmpty() ? null : keys;
+                    }));
+                }
+            })
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(HIT_RATIO_METRIC_NAME, cache, it -> it.stats().hitRate())
+            .register(meterRegistry);
+    }
+
+    /**
+     * delegate 와 같은 설정(settings, 캐시 무효화 listener 등)을 사용하되, SELECT 결과를 캐시하는 DSLContext 를 반환한다.
+     * <p>
+     * 캐시 미스는 delegate 로 다시 실행되어 그쪽에서 측정되므로, MockConnection 쪽에서는 {@link ExecutionMetricsListener} 를 제외한다.
+     * (캐시 hit 은 실행 지표가 아니라 캐시 지표로만 기록된다)
+     */
+    public DSLContext cachingDsl(DSLContext delegate) {
+        if (!enabled) {
+            return delegate;
+        }
+
+        return cachingDslContexts.computeIfAbsent(delegate.configuration(), configuration -> configuration
+            .derive(new MockConnection(new QueryResultCachingDataProvider(delegate, this)))
+            .derive(withoutExecutionMetrics(configuration.executeListenerProviders()))
+            .dsl());
+    }
+
+    /**
+     * 읽은 테이블을 알 수 없는 결과는 무효화할 수 없으므로 캐시하지 않는다.
+     */
+    Result<Record> get(Key key, Supplier<Set<String>> tables, Supplier<Result<Record>> loader) {
+        CachedResult cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.result();
+        }
+
+        Set<String> readTables = tables.get();
+        long version = version(readTables);
+        // replica 의 지연된 결과를 캐시하지 않도록 primary 에서 읽는다.
+        Result<Record> result = ReplicaRoutingContext.onPrimary(loader);
+        if (readTables.isEmpty()) {
+            return result;
+        }
+
+        readTables.forEach(table -> keysByTable.computeIfAbsent(table, name -> ConcurrentHashMap.newKeySet()).add(key));
+        cache.put(key, new CachedResult(result, readTables));
+
+        // 조회하는 동안 읽은 테이블이 무효화되었다면 변경 전의 결과일 수 있으므로 캐시에서 버린다.
+        // (put 이후에 무효화되는 경우는 invalidateTable 이 keysByTable 로 찾아서 지운다)
+        if (version(readTables) != version) {
+            cache.invalidate(key);
+        }
+        return result;
+    }
+
+    public void invalidateTable(String tableName) {
+        tableVersion(tableName).incrementAndGet();
+        Set<Key> keys = keysByTable.remove(tableName);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    public void invalidateAll() {
+        allTablesVersion.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 테이블별 무효화 횟수의 합. 무효화될 때마다 증가만 하므로, 값이 같으면 그 사이에 무효화되지 않은 것이다.
+     */
+    private long version(Set<String> tables) {
+        long version = allTablesVersion.get();
+        for (String table : tables) {
+            version += tableVersion(table).get();
+        }
+        return version;
+    }
+
+    private AtomicLong tableVersion(String tableName) {
+        return tableVersions.computeIfAbsent(tableName, name -> new AtomicLong());
+    }
+
+    private static ExecuteListenerProvider[] withoutExecutionMetrics(ExecuteListenerProvider[] providers) {
+        return Arrays.stream(providers)
+            .filter(provider -> !(provider.provide() instanceof ExecutionMetricsListener))
+            .toArray(ExecuteListenerProvider[]::new);
+    }
+
+    boolean hasResultsReading(String tableName) {
+        Set<Key> keys = keysByTable.get(tableName);
+        return keys != null && keys.stream().anyMatch(key -> cache.getIfPresent(key) != null);
+    }
+
+    long hitCount() {
+        return cache.stats().hitCount();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.jooqpractice.cache;
+
+import com.example.jooqpractice.utils.transaction.TransactionCallbackUtil;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Query;
+import org.jooq.Select;
+import org.springframework.stereotype.Component;
+
+/**
+ * <ul>
+ *     <li>실행 중인 SELECT 를 {@link QueryResultCachingDataProvider} 에 전달하여, 결과가 어떤 테이블을 읽었는지 기록할 수 있게 한다.</li>
+ *     <li>DSL 로 작성된 INSERT/UPDATE/DELETE 가 실행되면 대상 테이블을 읽은 결과를 실행 직후와 커밋 이후에 무효화한다.</li>
+ * </ul>
+ */
+@Component
+public class QueryResultCacheListener implements ExecuteListener {
+    private static final ThreadLocal<Query> CURRENT_QUERY = new ThreadLocal<>();
+
+    private final QueryResultCache queryResultCache;
+
+    public QueryResultCacheListener(QueryResultCache queryResultCache) {
+        this.queryResultCache = queryResultCache;
+    }
+
+    static Query currentQuery() {
+        return CURRENT_QUERY.get();
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        // 캐시 미스 시 delegate 로 실행하는 Plain SQL 은 Select 가 아니므로 바깥 쿼리를 덮어쓰지 않는다.
+        if (ctx.query() instanceof Select<?>) {
+            CURRENT_QUERY.set(ctx.query());
+        }
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        for (String tableName : QueryTables.writtenTables(ctx)) {
+            queryResultCache.invalidateTable(tableName);
+            TransactionCallbackUtil.runAfterCommit(() -> queryResultCache.invalidateTable(tableName));
+        }
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        if (ctx.query() instanceof Select<?>) {
+            CURRENT_QUERY.remove();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.jooqpractice.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled          false 면 {@link QueryResultCache#cachingDsl} 가 원래의 DSLContext 를 그대로 반환한다.
+ * @param maximumSize      캐시할 최대 쿼리 결과 수
+ * @param expireAfterWrite 결과가 적재된 후 만료되기까지의 시간 (DML 로 무효화되지 않는 변경에 대한 상한)
+ */
+@ConfigurationProperties("jooq.query-result-cache")
+public record QueryResultCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1000") long maximumSize,
+    @DefaultValue("5m") Duration expireAfterWrite
+) {
+
+}
@@ -0,0 +1,62 @@
+package com.example.jooqpractice.cache;
+
+import com.example.jooqpractice.utils.transaction.TransactionCallbackUtil;
+import java.util.Locale;
+import java.util.Set;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+/**
+ * {@link QueryResultCache#cachingDsl} 가 사용하는 MockConnection 의 실제 실행부.
+ * 캐시에 없는 SELECT 와 SELECT 가 아닌 문장은 delegate (실제 DB 연결) 로 실행한다.
+ */
+class QueryResultCachingDataProvider implements MockDataProvider {
+    private final DSLContext delegate;
+
+    private final QueryResultCache queryResultCache;
+
+    QueryResultCachingDataProvider(DSLContext delegate, QueryResultCache queryResultCache) {
+        this.delegate = delegate;
+        this.queryResultCache = queryResultCache;
+    }
+
+    @Override
+    public MockResult[] execute(MockExecuteContext ctx) {
+        if (ctx.batch()) {
+            throw new UnsupportedOperationException("batch execution is not supported by the query result cache");
+        }
+
+        String sql = ctx.sql();
+        Object[] bindings = ctx.bindings();
+
+        if (!isSelect(sql)) {
+            int rows = delegate.execute(sql, bindings);
+            // Plain SQL 로 전달되므로 대상 테이블을 알 수 없다.
+            queryResultCache.invalidateAll();
+            return new MockResult[] {new MockResult(rows)};
+        }
+
+        // 쓰기 트랜잭션 안에서는 커밋되지 않은 값을 캐시하지 않는다.
+        Result<Record> result = TransactionCallbackUtil.isInWritableTransaction()
+            ? delegate.fetch(sql, bindings)
+            : queryResultCache.get(new QueryResultCache.Key(sql, bindings), this::currentReadTables,
+                () -> delegate.fetch(sql, bindings));
+
+        return new MockResult[] {new MockResult(result.size(), result)};
+    }
+
+    private Set<String> currentReadTables() {
+        Query query = QueryResultCacheListener.currentQuery();
+        return query == null ? Set.of() : QueryTables.readTables(query);
+    }
+
+    private static boolean isSelect(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("with") || statement.startsWith("(");
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.jooqpractice.cache;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.Delete;
+import org.jooq.ExecuteContext;
+import org.jooq.Field;
+import org.jooq.Insert;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.Table;
+import org.jooq.Traversers;
+import org.jooq.UniqueKey;
+import org.jooq.Update;
+import org.jooq.impl.QOM;
+import org.jooq.impl.TableImpl;
+
+/**
+ * 캐시 무효화에 필요한, 쿼리가 읽고 쓰는 테이블 이름을 구한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class QueryTables {
+
+    /**
+     * DSL 로 작성된 INSERT/UPDATE/DELETE (batch 포함) 의 대상 테이블.
+     * Plain SQL 은 대상 테이블을 알 수 없으므로 포함되지 않는다.
+     */
+    public static Set<String> writtenTables(ExecuteContext ctx) {
+        Set<String> tables = new HashSet<>();
+        addWrittenTable(ctx.query(), tables);
+
+        for (Query query : ctx.batchQueries()) {
+            addWrittenTable(query, tables);
+        }
+
+        return tables;
+    }
+
+    static Set<String> writtenTables(Query query) {
+        Set<String> tables = new HashSet<>();
+        addWrittenTable(query, tables);
+        return tables;
+    }
+
+    /**
+     * 기존 row 를 변경하지 않는 INSERT 인지. ON DUPLICATE KEY UPDATE 는 기존 row 를 변경하므로 포함하지 않는다.
+     */
+    static boolean isPlainInsert(Query query) {
+        return query instanceof Insert<?> insert && !insert.$onDuplicateKeyUpdate();
+    }
+
+    /**
+     * 단일 컬럼 PK 를 가진 테이블에 대한 UPDATE/DELETE 의 WHERE 가 {@code PK = 값}, {@code PK IN (값, ...)} 으로
+     * 대상 row 를 한정하면 그 PK 값들을 반환한다.
+     * AND 는 한쪽이라도 한정하면, OR 는 양쪽 모두 한정해야 한정된 것으로 보며, 한정할 수 없으면 empty 를 반환한다.
+     * <p>
+     * 쿼리 객체에 남아 있는 bind 값을 읽으므로, 하나의 쿼리를 여러 bind 값으로 실행하는 batch 에는 사용하지 않는다.
+     */
+    static Optional<Set<Object>> writtenPrimaryKeys(Query query) {
+        Table<?> table;
+        Condition where;
+        switch (query) {
+            case Update<?> update -> {
+                table = update.$table();
+                where = update.$where();
+            }
+            case Delete<?> delete -> {
+                table = delete.$from();
+                where = delete.$where();
+            }
+            case null, default -> {
+                return Optional.empty();
+            }
+        }
+
+        UniqueKey<?> primaryKey = table.getPrimaryKey();
+        if (primaryKey == null || primaryKey.getFields().size() != 1 || where == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(primaryKeys(where, primaryKey.getFields().getFirst()));
+    }
+
+    /**
+     * 쿼리 객체 모델을 순회하여 조인, 서브쿼리, 파생 테이블 안에서 참조하는 (코드 생성된) 테이블을 모두 구한다.
+     */
+    static Set<String> readTables(Query query) {
+        return query.$traverse(Traversers.findingAll(part -> part instanceof TableImpl<?>)).stream()
+            .map(part -> tableName((Table<?>) part))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static String tableName(Table<?> table) {
+        // 별칭을 붙인 테이블은 원래 테이블 이름으로 기록한다.
+        Table<?> aliased = table.$aliased();
+        return (aliased != null ? aliased : table).getName();
+    }
+
+    private static Set<Object> primaryKeys(Condition condition, Field<?> primaryKey) {
+        return switch (condition) {
+            case QOM.Eq<?> eq -> primaryKeys(eq.$arg1(), List.of(eq.$arg2()), primaryKey);
+            case QOM.In<?> in -> primaryKeys(in.$arg1(), in.$arg2(), primaryKey);
+            case QOM.And and -> {
+                Set<Object> keys = primaryKeys(and.$arg1(), primaryKey);
+                yield keys != null ? keys : primaryKeys(and.$arg2(), primaryKey);
+            }
+            case QOM.Or or -> {
+                Set<Object> left = primaryKeys(or.$arg1(), primaryKey);
+                Set<Object> right = primaryKeys(or.$arg2(), primaryKey);
+                if (left == null || right == null) {
+                    yield null;
+                }
+                left.addAll(right);
+                yield left;
+            }
+            case null, default -> null;
+        };
+    }
+
+    private static Set<Object> primaryKeys(Field<?> field, List<? extends Field<?>> values, Field<?> primaryKey) {
+        if (!primaryKey.equals(field)) {
+            return null;
+        }
+
+        Set<Object> keys = new HashSet<>();
+        for (Field<?> value : values) {
+            if (!(value instanceof Param<?> param) || param.getValue() == null) {
+                return null;
+            }
+            keys.add(param.getValue());
+        }
+        return keys;
+    }
+
+    private static void addWrittenTable(Query query, Set<String> tables) {
+        Table<?> table = switch (query) {
+            case Update<?> update -> update.$table();
+            case Delete<?> delete -> delete.$from();
+            case Insert<?> insert -> insert.$into();
+            case null, default -> null;
+        };
+
+        if (table != null) {
+            tables.add(table.getName());
+        }
+    }
+}
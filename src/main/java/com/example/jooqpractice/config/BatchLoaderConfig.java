@@ -0,0 +1,34 @@
+package com.example.jooqpractice.config;
+
+import com.example.jooqpractice.actor.ActorRepository;
+import com.example.jooqpractice.film.FilmRepository;
+import com.example.jooqpractice.tables.pojos.Actor;
+import com.example.jooqpractice.tables.pojos.Film;
+import com.example.jooqpractice.utils.concurrent.BatchLoader;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 개별 findById 호출을 모아 findBy...IdIn 한 번으로 조회하는 BatchLoader 를 엔티티별로 등록한다.
+ * (BatchLoader 는 AutoCloseable 이므로 컨텍스트 종료 시 close 된다)
+ */
+@Configuration
+public class BatchLoaderConfig {
+
+    @Bean
+    public BatchLoader<Long, Film> filmBatchLoader(FilmRepository filmRepository, BatchLoaderProperties properties) {
+        return batchLoader(filmRepository::findByFilmIdIn, Film::getFilmId, properties);
+    }
+
+    @Bean
+    public BatchLoader<Long, Actor> actorBatchLoader(ActorRepository actorRepository, BatchLoaderProperties properties) {
+        return batchLoader(actorRepository::findByActorIdIn, Actor::getActorId, properties);
+    }
+
+    private static <K, V> BatchLoader<K, V> batchLoader(
+        Function<List<K>, List<V>> finder, Function<V, K> keyMapper, BatchLoaderProperties properties) {
+        return BatchLoader.of(finder, keyMapper, properties.window(), properties.maxBatchSize());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.jooqpractice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param window       개별 findById 호출을 모으는 최대 대기 시간
+ * @param maxBatchSize 한 번의 IN 쿼리로 조회하는 최대 id 수 (이만큼 모이면 window 를 기다리지 않는다)
+ */
+@ConfigurationProperties("jooq.batch-loader")
+public record BatchLoaderProperties(
+    @DefaultValue("2ms") Duration window,
+    @DefaultValue("100") int maxBatchSize
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.example.jooqpractice.config;
+
+import org.jooq.ExecuteListener;
+
+/**
+ * 실제 DB 실행의 소요 시간 등을 측정하는 listener.
+ * DB 에 가지 않는 MockConnection 실행 (예: 조회 결과 캐시) 에서는 측정값이 왜곡되므로 등록하지 않는다.
+ */
+public interface ExecutionMetricsListener extends ExecuteListener {
+
+}
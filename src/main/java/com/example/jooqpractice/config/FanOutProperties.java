@@ -0,0 +1,35 @@
+package com.example.jooqpractice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxConcurrentQueries fan-out 으로 동시에 실행할 수 있는 최대 쿼리 수 (모든 요청이 함께 사용하는 상한),
+ *                             0 이면 커넥션 풀 크기에서 reservedConnections 를 뺀 값을 사용한다
+ * @param reservedConnections  fan-out 이 아닌 요청(트랜잭션, 단건 조회)을 위해 남겨 둘 커넥션 수
+ * @param timeout              fan-out 전체의 deadline
+ */
+@ConfigurationProperties("jooq.fan-out")
+public record FanOutProperties(
+    @DefaultValue("0") int maxConcurrentQueries,
+    @DefaultValue("2") int reservedConnections,
+    @DefaultValue("3s") Duration timeout
+) {
+
+    /**
+     * fan-out 작업이 동시에 점유할 수 있는 커넥션 수를 반환한다.
+     * <p>
+     * 요청마다 forking 하는 작업 수는 쿼리 수로 정해지고, 이 값은 여러 요청이 동시에 fan-out 할 때의 전체 상한이다.
+     * 상한을 풀 크기보다 작게 두어야 fan-out 이 풀을 모두 점유해 다른 요청이 connectionTimeout 까지 기다리지 않는다.
+     *
+     * @param maximumPoolSize fan-out 이 커넥션을 얻는 Hikari 풀의 maximum-pool-size
+     */
+    public int connectionPermits(int maximumPoolSize) {
+        if (maxConcurrentQueries > 0) {
+            return maxConcurrentQueries;
+        }
+
+        return Math.max(1, maximumPoolSize - reservedConnections);
+    }
+}
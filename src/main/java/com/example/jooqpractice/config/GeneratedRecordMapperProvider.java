@@ -0,0 +1,38 @@
+package com.example.jooqpractice.config;
+
+import com.example.jooqpractice.GeneratedRecordMappers;
+import java.util.function.Function;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.RecordMapperProvider;
+import org.jooq.RecordType;
+
+/**
+ * {@code @GenerateRecordMapper} 로 컴파일 시점에 생성된 RecordMapper 를 우선 사용하고,
+ * 생성된 mapper 가 없거나 조회 컬럼의 수, 타입, 중첩 row 구성이 맞지 않으면 jOOQ 기본 mapper (reflection) 로 대체한다.
+ * <p>
+ * jOOQ 는 조회 결과 (RecordType) 마다 한 번 mapper 를 요청하므로, 컬럼 검증은 row 마다가 아니라 조회마다 한 번만 일어난다.
+ */
+public class GeneratedRecordMapperProvider implements RecordMapperProvider {
+    private final RecordMapperProvider fallback;
+
+    public GeneratedRecordMapperProvider(RecordMapperProvider fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R extends Record, E> RecordMapper<R, E> provide(RecordType<R> recordType, Class<? extends E> type) {
+        Function<Field<?>[], RecordMapper<Record, ?>> factory = GeneratedRecordMappers.mappers().get(type);
+
+        if (factory != null) {
+            RecordMapper<Record, ?> mapper = factory.apply(recordType.fields());
+            if (mapper != null) {
+                return (RecordMapper<R, E>) mapper;
+            }
+        }
+
+        return fallback.provide(recordType, type);
+    }
+}
@@ -1,17 +1,54 @@
 package com.example.jooqpractice.config;
 
+import com.example.jooqpractice.cache.EntityCacheInvalidationListener;
+import com.example.jooqpractice.cache.EntityCacheProperties;
+import com.example.jooqpractice.cache.QueryResultCacheListener;
+import com.example.jooqpractice.cache.QueryResultCacheProperties;
+import com.example.jooqpractice.config.shard.ShardProperties;
+import com.example.jooqpractice.film.FilmInventoryCountListener;
+import com.example.jooqpractice.ingest.BulkIngestProperties;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.RecordListener;
+import org.jooq.RecordListenerProvider;
 import org.jooq.conf.ExecuteWithoutWhere;
 import org.jooq.conf.RenderImplicitJoinType;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.impl.DefaultRecordListenerProvider;
+import org.jooq.impl.DefaultRecordMapperProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jooq.autoconfigure.DefaultConfigurationCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties({
+    PerformanceProperties.class,
+    FanOutProperties.class,
+    EntityCacheProperties.class,
+    QueryResultCacheProperties.class,
+    BatchLoaderProperties.class,
+    ParallelAggregationProperties.class,
+    ShardProperties.class,
+    BulkIngestProperties.class
+})
 public class JooqConfig {
     @Bean
-    public DefaultConfigurationCustomizer jooqDefaultConfigurationCustomizer() {
+    public DefaultConfigurationCustomizer jooqDefaultConfigurationCustomizer(
+        PerformanceListener performanceListener,
+        QueryPhaseListener queryPhaseListener,
+        EntityCacheInvalidationListener entityCacheInvalidationListener,
+        QueryResultCacheListener queryResultCacheListener,
+        FilmInventoryCountListener filmInventoryCountListener) {
         return c -> {
-            c.set(PerformanceListener::new);
+            // 기존에 등록된 listener (예: 예외 변환) 를 덮어쓰지 않도록 뒤에 추가한다.
+            c.set(withListeners(c.executeListenerProviders(),
+                performanceListener, queryPhaseListener,
+                entityCacheInvalidationListener, queryResultCacheListener, filmInventoryCountListener));
+            c.set(withRecordListeners(c.recordListenerProviders(), entityCacheInvalidationListener));
+            c.set(new TimedRecordMapperProvider(new GeneratedRecordMapperProvider(new DefaultRecordMapperProvider(c))));
             c.settings()
                 .withExecuteDeleteWithoutWhere(ExecuteWithoutWhere.THROW)
                 .withExecuteUpdateWithoutWhere(ExecuteWithoutWhere.THROW)
@@ -20,4 +57,18 @@ public class JooqConfig {
                 .withRenderSchema(false);
         };
     }
+
+    private static ExecuteListenerProvider[] withListeners(ExecuteListenerProvider[] providers, ExecuteListener... listeners) {
+        return Stream.concat(
+                Arrays.stream(providers),
+                Arrays.stream(listeners).map(DefaultExecuteListenerProvider::new))
+            .toArray(ExecuteListenerProvider[]::new);
+    }
+
+    private static RecordListenerProvider[] withRecordListeners(RecordListenerProvider[] providers, RecordListener... listeners) {
+        return Stream.concat(
+                Arrays.stream(providers),
+                Arrays.stream(listeners).map(DefaultRecordListenerProvider::new))
+            .toArray(RecordListenerProvider[]::new);
+    }
 }
@@ -0,0 +1,19 @@
+package com.example.jooqpractice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param parallelism 동시에 실행할 구간 집계 쿼리 수 (Hikari maximum-pool-size 보다 작게 설정한다)
+ * @param chunkSize   쿼리 하나가 집계하는 PK 구간의 크기
+ * @param timeout     전체 집계의 deadline
+ */
+@ConfigurationProperties("jooq.parallel-aggregation")
+public record ParallelAggregationProperties(
+    @DefaultValue("4") int parallelism,
+    @DefaultValue("4000") int chunkSize,
+    @DefaultValue("30s") Duration timeout
+) {
+
+}
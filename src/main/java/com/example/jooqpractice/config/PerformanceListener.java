@@ -1,40 +1,137 @@
 package com.example.jooqpractice.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.ExecuteContext;
-import org.jooq.ExecuteListener;
-import org.jooq.Query;
-import org.jooq.tools.StopWatch;
+import org.springframework.stereotype.Component;
 
+/**
+ * 정규화된 SQL 형태(shape) 별로 실행 시간을 Micrometer Timer 에 기록한다.
+ * Timer 의 percentile histogram 은 HdrHistogram 기반으로 lock-free 하게 기록되며, actuator 의 metrics 로 p50/p99/max/count 를 조회할 수 있다.
+ * <p>
+ * 하나의 인스턴스를 모든 쿼리 실행에서 공유하므로 실행별 상태는 {@link ExecuteContext#data()} 에 저장한다.
+ */
 @Slf4j
-public class PerformanceListener implements ExecuteListener {
-    private transient StopWatch stopWatch;
+@Component
+public class PerformanceListener implements ExecutionMetricsListener {
+    static final String METRIC_NAME = "jooq.query.latency";
 
-    private static final Duration SLOW_QUERY_LIMIT = Duration.ofSeconds(3L);
+    static final String OTHER_SQL_SHAPE = "other";
+
+    private static final String START_NANOS_KEY = PerformanceListener.class.getName() + ".startNanos";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern VALUES_LIST = Pattern.compile("\\(\\?\\)(?:\\s*,\\s*\\(\\?\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final MeterRegistry meterRegistry;
+
+    private final PerformanceProperties properties;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Counter suppressedSlowQueryLogs;
+
+    private final AtomicLong slowQueryLogWindowStart = new AtomicLong(System.nanoTime());
+
+    private final AtomicInteger slowQueryLogCount = new AtomicInteger();
+
+    public PerformanceListener(MeterRegistry meterRegistry, PerformanceProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.suppressedSlowQueryLogs = Counter.builder("jooq.query.slow.suppressed")
+            .description("Rate limit 으로 로그가 생략된 Slow Query 건수")
+            .register(meterRegistry);
+    }
 
     @Override
     public void executeStart(ExecuteContext ctx) {
-        stopWatch = new StopWatch();
+        ctx.data(START_NANOS_KEY, System.nanoTime());
     }
 
     @Override
     public void executeEnd(ExecuteContext ctx) {
-        long queryTimeNanoSeconds = stopWatch.split();
+        if (!(ctx.data(START_NANOS_KEY) instanceof Long startNanos)) {
+            return;
+        }
+
+        long queryTimeNanoSeconds = System.nanoTime() - startNanos;
+        String sql = ctx.sql();
 
-        if (queryTimeNanoSeconds > SLOW_QUERY_LIMIT.getNano()) {
-            Query query = ctx.query();
+        timer(sql).record(queryTimeNanoSeconds, TimeUnit.NANOSECONDS);
+
+        if (queryTimeNanoSeconds >= properties.slowQueryThreshold().toNanos()) {
+            logSlowQuery(ctx, Duration.ofNanos(queryTimeNanoSeconds));
+        }
+    }
 
-            Duration executionTime = Duration.ofNanos(queryTimeNanoSeconds);
+    private Timer timer(String sql) {
+        String sqlShape = sql == null ? OTHER_SQL_SHAPE : normalize(sql);
 
-            log.warn(
-                """
-                ### Slow SQL 탐지 >> 경고: jooq로 실행된 쿼리 중 {}초 이상 실행된 쿼리가 있습니다.
-                실행시간: {}초
-                실행쿼리:
-                {}
-                """, SLOW_QUERY_LIMIT.getSeconds(), executionTime.getSeconds(), query
-            );
+        Timer timer = timers.get(sqlShape);
+        if (timer != null) {
+            return timer;
         }
+
+        // 태그 cardinality 가 무한히 늘어나지 않도록 SQL 형태의 개수를 제한한다.
+        if (timers.size() >= properties.maxSqlShapes()) {
+            sqlShape = OTHER_SQL_SHAPE;
+        }
+
+        return timers.computeIfAbsent(sqlShape, shape -> Timer.builder(METRIC_NAME)
+            .description("jOOQ 쿼리 실행 시간 (SQL 형태 별)")
+            .tag("sql", shape)
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry));
+    }
+
+    private void logSlowQuery(ExecuteContext ctx, Duration executionTime) {
+        if (!tryAcquireSlowQueryLog()) {
+            suppressedSlowQueryLogs.increment();
+            return;
+        }
+
+        log.warn(
+            """
+            ### Slow SQL 탐지 >> 경고: jooq로 실행된 쿼리 중 {}ms 이상 실행된 쿼리가 있습니다.
+            실행시간: {}ms
+            실행쿼리:
+            {}
+            """, properties.slowQueryThreshold().toMillis(), executionTime.toMillis(), ctx.query()
+        );
+    }
+
+    private boolean tryAcquireSlowQueryLog() {
+        long now = System.nanoTime();
+        long windowStart = slowQueryLogWindowStart.get();
+
+        if (now - windowStart >= TimeUnit.MINUTES.toNanos(1)
+            && slowQueryLogWindowStart.compareAndSet(windowStart, now)) {
+            slowQueryLogCount.set(0);
+        }
+
+        return slowQueryLogCount.incrementAndGet() <= properties.slowQueryLogsPerMinute();
+    }
+
+    /**
+     * 리터럴과 가변 길이 IN/VALUES 목록을 '?' 로 치환하여 같은 형태의 쿼리를 하나의 키로 묶는다.
+     */
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMERIC_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        normalized = VALUES_LIST.matcher(normalized).replaceAll("(?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
     }
 }
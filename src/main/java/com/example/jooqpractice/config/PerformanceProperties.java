@@ -0,0 +1,19 @@
+package com.example.jooqpractice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param slowQueryThreshold     이 시간 이상 실행된 쿼리를 Slow Query 로 로깅한다.
+ * @param slowQueryLogsPerMinute 1분당 최대 Slow Query 로그 건수 (초과분은 건수만 집계한다)
+ * @param maxSqlShapes           지표 태그로 사용할 정규화 SQL 의 최대 개수 (초과분은 "other" 로 집계한다)
+ */
+@ConfigurationProperties("jooq.performance")
+public record PerformanceProperties(
+    @DefaultValue("3s") Duration slowQueryThreshold,
+    @DefaultValue("10") int slowQueryLogsPerMinute,
+    @DefaultValue("500") int maxSqlShapes
+) {
+
+}
@@ -0,0 +1,156 @@
+package com.example.jooqpractice.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.jooq.ExecuteContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * jOOQ 실행 단계(render, prepare, bind, execute, fetch) 별 소요 시간과 조회된 row 수를
+ * 호출한 Repository 메서드({@link RepositoryCallContext}) 로 태깅하여 기록한다.
+ * 결과 매핑(fetchInto 등) 시간은 {@link TimedRecordMapperProvider} 가 측정하여 {@link RepositoryMetricsAspect} 에서 mapping 으로,
+ * 그 외 jOOQ listener 밖의 시간은 other 로 기록한다.
+ */
+@Component
+public class QueryPhaseListener implements ExecutionMetricsListener {
+    static final String PHASE_METRIC_NAME = "jooq.query.phase";
+
+    static final String ROWS_METRIC_NAME = "jooq.query.rows";
+
+    private static final String STATE_KEY = QueryPhaseListener.class.getName() + ".state";
+
+    enum Phase {
+        RENDER, PREPARE, BIND, EXECUTE, FETCH;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class State {
+        private final String caller = RepositoryCallContext.currentCaller();
+        private final long[] startNanos = new long[Phase.values().length];
+        private long rows;
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    public QueryPhaseListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ctx.data(STATE_KEY, new State());
+    }
+
+    @Override
+    public void renderStart(ExecuteContext ctx) {
+        phaseStart(ctx, Phase.RENDER);
+    }
+
+    @Override
+    public void renderEnd(ExecuteContext ctx) {
+        phaseEnd(ctx, Phase.RENDER);
+    }
+
+    @Override
+    public void prepareStart(ExecuteContext ctx) {
+        phaseStart(ctx, Phase.PREPARE);
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        phaseEnd(ctx, Phase.PREPARE);
+    }
+
+    @Override
+    public void bindStart(ExecuteContext ctx) {
+        phaseStart(ctx, Phase.BIND);
+    }
+
+    @Override
+    public void bindEnd(ExecuteContext ctx) {
+        phaseEnd(ctx, Phase.BIND);
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        phaseStart(ctx, Phase.EXECUTE);
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        phaseEnd(ctx, Phase.EXECUTE);
+    }
+
+    @Override
+    public void fetchStart(ExecuteContext ctx) {
+        phaseStart(ctx, Phase.FETCH);
+        RepositoryCallContext.fetching(true);
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        if (ctx.data(STATE_KEY) instanceof State state) {
+            state.rows++;
+        }
+    }
+
+    @Override
+    public void fetchEnd(ExecuteContext ctx) {
+        RepositoryCallContext.fetching(false);
+        phaseEnd(ctx, Phase.FETCH);
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        if (!(ctx.data(STATE_KEY) instanceof State state)) {
+            return;
+        }
+
+        // DML 등 결과를 fetch 하지 않는 쿼리는 row 수를 기록하지 않는다.
+        if (state.startNanos[Phase.FETCH.ordinal()] != 0L || state.rows > 0) {
+            rowSummary(state.caller).record(state.rows);
+        }
+    }
+
+    private void phaseStart(ExecuteContext ctx, Phase phase) {
+        if (ctx.data(STATE_KEY) instanceof State state) {
+            state.startNanos[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    private void phaseEnd(ExecuteContext ctx, Phase phase) {
+        if (!(ctx.data(STATE_KEY) instanceof State state) || state.startNanos[phase.ordinal()] == 0L) {
+            return;
+        }
+
+        long elapsedNanos = System.nanoTime() - state.startNanos[phase.ordinal()];
+        phaseTimer(state.caller, phase).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        RepositoryCallContext.addJooqNanos(elapsedNanos);
+    }
+
+    private Timer phaseTimer(String caller, Phase phase) {
+        return phaseTimers.computeIfAbsent(caller + "#" + phase.tag, key -> Timer.builder(PHASE_METRIC_NAME)
+            .description("jOOQ 실행 단계 별 소요 시간")
+            .tag("caller", caller)
+            .tag("phase", phase.tag)
+            .register(meterRegistry));
+    }
+
+    private DistributionSummary rowSummary(String caller) {
+        return rowSummaries.computeIfAbsent(caller, key -> DistributionSummary.builder(ROWS_METRIC_NAME)
+            .description("쿼리 1회당 조회된 row 수")
+            .baseUnit("rows")
+            .tag("caller", caller)
+            .register(meterRegistry));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.jooqpractice.config;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.PASSWORD;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ReactiveFilmRepository 에서 사용할 R2DBC ConnectionFactory 를 jooq.reactive 설정으로 만든다.
+ * <p>
+ * spring-boot-starter-data-r2dbc 의 자동 설정은 R2DBC ConnectionFactory 가 있으면 JDBC DataSource 자동 설정을 건너뛰므로,
+ * 자동 설정 없이 r2dbc-spi, r2dbc-pool 만 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveConnectionProperties.class)
+public class ReactiveConnectionFactoryConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionFactory(
+        ReactiveConnectionProperties properties, DataSourceProperties dataSourceProperties) {
+        if (properties.url() == null) {
+            throw new IllegalStateException("jooq.reactive.url must be set to use ReactiveFilmRepository");
+        }
+
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.url()).mutate()
+            .option(USER, properties.username() != null ? properties.username() : dataSourceProperties.determineUsername())
+            .option(PASSWORD, properties.password() != null ? properties.password() : dataSourceProperties.determinePassword())
+            .build();
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .name("reactive")
+            .maxSize(properties.maximumPoolSize())
+            .maxIdleTime(properties.maxIdleTime())
+            .build());
+    }
+}
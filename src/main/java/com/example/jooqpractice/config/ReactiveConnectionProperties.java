@@ -0,0 +1,23 @@
+package com.example.jooqpractice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param url             R2DBC url (예: r2dbc:mysql://localhost:3306/sakila)
+ * @param username        생략하면 spring.datasource.username 을 사용한다
+ * @param password        생략하면 spring.datasource.password 를 사용한다
+ * @param maximumPoolSize 커넥션 풀 크기
+ * @param maxIdleTime     이보다 오래 사용하지 않은 커넥션은 닫는다
+ */
+@ConfigurationProperties("jooq.reactive")
+public record ReactiveConnectionProperties(
+    String url,
+    String username,
+    String password,
+    @DefaultValue("4") int maximumPoolSize,
+    @DefaultValue("30m") Duration maxIdleTime
+) {
+
+}
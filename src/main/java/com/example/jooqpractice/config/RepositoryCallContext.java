@@ -0,0 +1,119 @@
+package com.example.jooqpractice.config;
+
+/**
+ * 현재 스레드에서 실행 중인 Repository 메서드 정보를 담는다.
+ * jOOQ listener 는 이 정보로 지표에 호출한 메서드를 태깅하고, jOOQ 내부에서 소요된 시간을 누적한다.
+ * {@link TimedRecordMapperProvider} 는 결과 매핑 시간을 누적한다.
+ * <p>
+ * jOOQ 가 cursor 를 읽으면서 바로 매핑하는 경우 매핑 시간이 fetch 단계 시간에 겹치므로,
+ * fetch 단계 밖에서 일어난 매핑 시간을 따로 모아 other 계산에서 중복으로 빼지 않도록 한다.
+ */
+public final class RepositoryCallContext {
+    static final String NO_CALLER = "none";
+
+    private static final ThreadLocal<RepositoryCallContext> CURRENT = new ThreadLocal<>();
+
+    private final String caller;
+
+    private final RepositoryCallContext parent;
+
+    private long jooqNanos;
+
+    private long mappingNanos;
+
+    private long mappingNanosOutsideFetch;
+
+    private int mappingDepth;
+
+    private boolean fetching;
+
+    private RepositoryCallContext(String caller, RepositoryCallContext parent) {
+        this.caller = caller;
+        this.parent = parent;
+    }
+
+    public static RepositoryCallContext begin(String caller) {
+        RepositoryCallContext context = new RepositoryCallContext(caller, CURRENT.get());
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static String currentCaller() {
+        RepositoryCallContext context = CURRENT.get();
+        return context == null ? NO_CALLER : context.caller;
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void addJooqNanos(long nanos) {
+        RepositoryCallContext context = CURRENT.get();
+        if (context != null) {
+            context.jooqNanos += nanos;
+        }
+    }
+
+    static void fetching(boolean fetching) {
+        RepositoryCallContext context = CURRENT.get();
+        if (context != null) {
+            context.fetching = fetching;
+        }
+    }
+
+    /**
+     * 결과 매핑 시작 시각을 반환한다. 이미 매핑 중인 (중첩 row) 경우와 Repository 밖의 호출은 측정하지 않도록 0 을 반환한다.
+     */
+    static long mappingStart() {
+        RepositoryCallContext context = CURRENT.get();
+        if (context == null) {
+            return 0L;
+        }
+        return context.mappingDepth++ == 0 ? System.nanoTime() : 0L;
+    }
+
+    static void mappingEnd(long startNanos) {
+        RepositoryCallContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+
+        context.mappingDepth--;
+        if (startNanos != 0L) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            context.mappingNanos += elapsedNanos;
+            if (!context.fetching) {
+                context.mappingNanosOutsideFetch += elapsedNanos;
+            }
+        }
+    }
+
+    public String caller() {
+        return caller;
+    }
+
+    public long jooqNanos() {
+        return jooqNanos;
+    }
+
+    public long mappingNanos() {
+        return mappingNanos;
+    }
+
+    public long mappingNanosOutsideFetch() {
+        return mappingNanosOutsideFetch;
+    }
+
+    public void end() {
+        if (parent == null) {
+            CURRENT.remove();
+            return;
+        }
+
+        // 다른 Repository 를 통해 호출된 경우, 상위 호출의 jOOQ 시간에도 포함시킨다.
+        parent.jooqNanos += jooqNanos;
+        parent.mappingNanos += mappingNanos;
+        parent.mappingNanosOutsideFetch += mappingNanosOutsideFetch;
+        CURRENT.set(parent);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.jooqpractice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repository 메서드 호출 단위로 {@link RepositoryCallContext} 를 열고,
+ * 결과 매핑 시간을 mapping 으로, 전체 소요 시간에서 jOOQ 실행 단계와 매핑 시간을 뺀 나머지를 other 로 기록한다.
+ * <p>
+ * mapping 은 cursor 를 읽으면서 매핑하는 경우 fetch 단계 시간과 겹칠 수 있다.
+ * other 에는 캐시 조회, 커넥션 획득 대기 등 jOOQ listener 와 매핑 밖의 시간이 포함된다.
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+    static final String CALL_METRIC_NAME = "jooq.repository.call";
+
+    static final String MAPPING_METRIC_NAME = "jooq.repository.mapping";
+
+    static final String OTHER_METRIC_NAME = "jooq.repository.other";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> callTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> mappingTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> otherTimers = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Publisher (R2DBC), Stream, Cursor 를 반환하는 메서드는 반환 이후에 row 를 읽으므로 호출 시간으로 측정할 수 없어 제외한다.
+    @Around("@within(org.springframework.stereotype.Repository) && execution(public * *(..))"
+        + " && !execution(public org.reactivestreams.Publisher+ *(..))"
+        + " && !execution(public java.util.stream.BaseStream+ *(..))"
+        + " && !execution(public org.jooq.Cursor+ *(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String caller = joinPoint.getSignature().getDeclaringType().getSimpleName()
+            + "." + joinPoint.getSignature().getName();
+
+        RepositoryCallContext context = RepositoryCallContext.begin(caller);
+        long startNanos = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long totalNanos = System.nanoTime() - startNanos;
+            long jooqNanos = context.jooqNanos();
+            long mappingNanos = context.mappingNanos();
+            long otherNanos = totalNanos - jooqNanos - context.mappingNanosOutsideFetch();
+            context.end();
+
+            callTimer(caller).record(totalNanos, TimeUnit.NANOSECONDS);
+            if (mappingNanos > 0L) {
+                mappingTimer(caller).record(mappingNanos, TimeUnit.NANOSECONDS);
+            }
+            otherTimer(caller).record(Math.max(0L, otherNanos), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer callTimer(String caller) {
+        return callTimers.computeIfAbsent(caller, key -> Timer.builder(CALL_METRIC_NAME)
+            .description("Repository 메서드 전체 소요 시간")
+            .tag("caller", caller)
+            .register(meterRegistry));
+    }
+
+    private Timer mappingTimer(String caller) {
+        return mappingTimers.computeIfAbsent(caller, key -> Timer.builder(MAPPING_METRIC_NAME)
+            .description("Repository 메서드에서 record 를 객체로 변환하는 데 걸린 시간 (fetchInto, into 등)")
+            .tag("caller", caller)
+            .register(meterRegistry));
+    }
+
+    private Timer otherTimer(String caller) {
+        return otherTimers.computeIfAbsent(caller, key -> Timer.builder(OTHER_METRIC_NAME)
+            .description("Repository 메서드에서 jOOQ 실행 단계를 제외한 시간 (캐시 조회, 커넥션 대기 등)")
+            .tag("caller", caller)
+            .register(meterRegistry));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.jooqpractice.config;
+
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.RecordMapperProvider;
+import org.jooq.RecordType;
+
+/**
+ * fetchInto, into 등에서 record 를 객체로 변환하는 시간을 {@link RepositoryCallContext} 에 누적한다.
+ * 누적된 시간은 {@link RepositoryMetricsAspect} 가 호출한 Repository 메서드 단위로 mapping 지표로 기록한다.
+ * <p>
+ * Repository 메서드 밖에서 요청된 mapper 는 기록할 곳이 없으므로 감싸지 않고 그대로 반환한다.
+ * 중첩 row 를 매핑하면서 다시 mapper 를 요청하는 경우는 바깥 record 의 매핑 시간에 포함되므로 따로 측정하지 않는다.
+ */
+public class TimedRecordMapperProvider implements RecordMapperProvider {
+    private final RecordMapperProvider delegate;
+
+    public TimedRecordMapperProvider(RecordMapperProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <R extends Record, E> RecordMapper<R, E> provide(RecordType<R> recordType, Class<? extends E> type) {
+        RecordMapper<R, E> mapper = delegate.provide(recordType, type);
+        if (!RepositoryCallContext.isActive()) {
+            return mapper;
+        }
+
+        return record -> {
+            long startNanos = RepositoryCallContext.mappingStart();
+            try {
+                return mapper.map(record);
+            } finally {
+                RepositoryCallContext.mappingEnd(startNanos);
+            }
+        };
+    }
+}
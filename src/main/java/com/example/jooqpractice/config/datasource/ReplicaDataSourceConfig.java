@@ -0,0 +1,77 @@
+package com.example.jooqpractice.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * jooq.replica.enabled=true 인 경우 spring.datasource 를 primary 로, jooq.replica.nodes 를 읽기 전용 replica 로 사용한다.
+ * DSLContext 와 트랜잭션 매니저는 Boot 자동 설정을 그대로 사용하며, 이 설정의 DataSource 만 바꾼다.
+ * <p>
+ * primary 풀은 Boot 의 Hikari 자동 설정과 같이 spring.datasource.hikari.* (maximum-pool-size, timeout 등) 를 바인딩한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jooq.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+        DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties) {
+        List<ReplicaNode> replicas = replicaProperties.nodes().stream()
+            .map(node -> new ReplicaNode(node.name(), replicaDataSource(dataSourceProperties, replicaProperties, node)))
+            .toList();
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        // 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있다.
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaRoutingDataSource replicaRoutingDataSource,
+        ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        return new ReplicaHealthChecker(replicaRoutingDataSource, replicaProperties, meterRegistry);
+    }
+
+    @Bean
+    public ReplicaReadAspect replicaReadAspect() {
+        return new ReplicaReadAspect();
+    }
+
+    private static HikariDataSource replicaDataSource(
+        DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties, ReplicaProperties.Node node) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + node.name());
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(node.url());
+        dataSource.setUsername(node.username() != null ? node.username() : dataSourceProperties.determineUsername());
+        dataSource.setPassword(node.password() != null ? node.password() : dataSourceProperties.determinePassword());
+        dataSource.setMaximumPoolSize(replicaProperties.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.jooqpractice.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * replica 마다 SHOW REPLICA STATUS 로 복제 지연을 확인하여, 연결할 수 없거나 지연이 maxLag 를 넘은 replica 를 읽기 대상에서 제외한다.
+ * <p>
+ * 복제 설정이 없는 서버 (예: 같은 데이터를 적재한 로컬 컨테이너) 는 결과가 없으므로 지연 0 으로 간주한다.
+ * 복제가 멈춘 경우 (Seconds_Behind_Source 가 NULL) 는 지연을 알 수 없으므로 제외한다.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    private final ReplicaProperties replicaProperties;
+
+    public ReplicaHealthChecker(ReplicaRoutingDataSource routingDataSource, ReplicaProperties replicaProperties,
+        MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.replicaProperties = replicaProperties;
+
+        routingDataSource.replicas().forEach(replica -> Gauge.builder("jooq.replica.lag", replica, ReplicaNode::lagSeconds)
+            .description("replica 복제 지연 (초), 확인할 수 없는 경우 -1")
+            .baseUnit("seconds")
+            .tag("replica", replica.name())
+            .register(meterRegistry));
+    }
+
+    @Scheduled(fixedDelayString = "${jooq.replica.health-check-interval:5s}")
+    public void check() {
+        routingDataSource.replicas().forEach(this::check);
+    }
+
+    void check(ReplicaNode replica) {
+        boolean wasAvailable = replica.isAvailable();
+        long lagSeconds;
+
+        try {
+            lagSeconds = fetchLagSeconds(replica);
+        } catch (SQLException e) {
+            replica.markUnavailable(-1);
+            if (wasAvailable) {
+                log.warn("replica {} 에 연결할 수 없어 읽기 대상에서 제외합니다.", replica.name(), e);
+            }
+            return;
+        }
+
+        if (lagSeconds < 0 || lagSeconds > replicaProperties.maxLag().toSeconds()) {
+            replica.markUnavailable(lagSeconds);
+            if (wasAvailable) {
+                log.warn("replica {} 의 복제 지연({}s)이 허용 범위({})를 벗어나 읽기 대상에서 제외합니다.",
+                    replica.name(), lagSeconds, replicaProperties.maxLag());
+            }
+            return;
+        }
+
+        replica.markAvailable(lagSeconds);
+        if (!wasAvailable) {
+            log.info("replica {} 를 읽기 대상에 추가합니다. (복제 지연 {}s)", replica.name(), lagSeconds);
+        }
+    }
+
+    private static long fetchLagSeconds(ReplicaNode replica) throws SQLException {
+        try (Connection connection = replica.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return 0;
+            }
+
+            long lagSeconds = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? -1 : lagSeconds;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.jooqpractice.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * replica 하나의 커넥션 풀과, 마지막으로 확인한 상태(연결 가능 여부, 복제 지연)를 담는다.
+ * 처음 상태를 확인하기 전까지는 읽기 대상에서 제외한다.
+ */
+public class ReplicaNode implements AutoCloseable {
+    private final String name;
+
+    private final HikariDataSource dataSource;
+
+    private volatile boolean available;
+
+    private volatile long lagSeconds = -1;
+
+    public ReplicaNode(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * @return 마지막으로 확인한 복제 지연 (초), 확인할 수 없었던 경우 -1
+     */
+    public long lagSeconds() {
+        return lagSeconds;
+    }
+
+    void markAvailable(long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.available = true;
+    }
+
+    void markUnavailable(long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.available = false;
+    }
+
+    int activeConnections() {
+        // 풀이 아직 시작되지 않은 경우 null
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.jooqpractice.config.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled             replica 로 읽기를 분산한다. (false 이면 spring.datasource 하나만 사용한다)
+ * @param nodes               읽기 전용 replica 목록
+ * @param maxLag              이보다 복제가 늦은 replica 는 읽기 대상에서 제외한다
+ * @param healthCheckInterval replica 상태, 복제 지연 확인 주기
+ * @param maximumPoolSize     replica 마다 사용할 커넥션 풀 크기
+ */
+@ConfigurationProperties("jooq.replica")
+public record ReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<Node> nodes,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("5s") Duration healthCheckInterval,
+    @DefaultValue("4") int maximumPoolSize
+) {
+
+    public record Node(String name, String url, String username, String password) {
+
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.jooqpractice.config.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 트랜잭션 밖에서 호출되면 replica 에서 읽어도 되는 조회 메서드에 붙인다. ({@link ReplicaReadAspect})
+ * <p>
+ * replica 는 jooq.replica.max-lag 만큼 늦을 수 있으므로, 쓰기 직후 다시 읽거나 결과를 캐시, 인덱스에 보관하는 조회에는 붙이지 않는다.
+ * (그런 조회는 {@link ReplicaRoutingContext#onPrimary} 로 감싸면 이 어노테이션이 붙은 메서드 안에서도 primary 에서 읽는다)
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+
+}
@@ -0,0 +1,25 @@
+package com.example.jooqpractice.config.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * 트랜잭션 밖에서 호출된 {@link ReplicaRead} 메서드를 replica 로 보낸다.
+ * 쓰기 트랜잭션 안에서 호출된 경우에는 {@link ReplicaRoutingDataSource} 가 트랜잭션 속성을 따라 primary 를 사용한다.
+ * <p>
+ * 메서드 이름으로 고르면 캐시를 채우거나 쓰기 직후 다시 읽는 조회까지 replica 로 보내게 되므로, 어노테이션을 붙인 메서드만 보낸다.
+ */
+@Aspect
+public class ReplicaReadAspect {
+
+    @Around("@annotation(com.example.jooqpractice.config.datasource.ReplicaRead)")
+    public Object routeToReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReplicaRoutingContext.enterRead();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.jooqpractice.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 조회를 어디로 보낼지 표시한다.
+ * <ul>
+ *     <li>read: 트랜잭션 밖에서 실행되는 {@link ReplicaRead} 메서드를 replica 로 보낸다.
+ *     트랜잭션 안에서는 트랜잭션의 readOnly 속성을 따르므로 이 값은 사용하지 않는다.</li>
+ *     <li>primary: 캐시를 채우거나 인덱스를 다시 만드는 조회는 replica 의 지연된 값을 보관하지 않도록 항상 primary 로 보낸다.
+ *     (readOnly 트랜잭션이 이미 replica 커넥션을 얻은 뒤라면 그 커넥션을 그대로 사용한다)</li>
+ * </ul>
+ */
+public final class ReplicaRoutingContext {
+    private static final ThreadLocal<Boolean> READ = new ThreadLocal<>();
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    /**
+     * @return 이전 값 ({@link #restore(boolean)} 로 되돌린다)
+     */
+    public static boolean enterRead() {
+        boolean previous = isRead();
+        READ.set(Boolean.TRUE);
+        return previous;
+    }
+
+    public static void restore(boolean previous) {
+        if (previous) {
+            READ.set(Boolean.TRUE);
+        } else {
+            READ.remove();
+        }
+    }
+
+    public static boolean isRead() {
+        return Boolean.TRUE.equals(READ.get());
+    }
+
+    /**
+     * query 안의 조회를 ({@link ReplicaRead} 메서드 안에서 호출되더라도) primary 로 보낸다.
+     */
+    public static <T> T onPrimary(Supplier<T> query) {
+        boolean previous = isPrimaryRequired();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            if (!previous) {
+                PRIMARY.remove();
+            }
+        }
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY.get());
+    }
+}
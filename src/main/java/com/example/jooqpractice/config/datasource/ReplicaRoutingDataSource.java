@@ -0,0 +1,107 @@
+package com.example.jooqpractice.config.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 커넥션은 사용 가능한 replica 중 사용 중인 커넥션이 가장 적은 곳으로, 나머지는 primary 로 보낸다.
+ * <ul>
+ *     <li>트랜잭션 안: readOnly 트랜잭션만 replica 를 사용한다.</li>
+ *     <li>트랜잭션 밖: {@link ReplicaRoutingContext#isRead()} 인 경우 ({@link ReplicaRead} 메서드) replica 를 사용한다.</li>
+ *     <li>{@link ReplicaRoutingContext#onPrimary} 안의 조회는 항상 primary 를 사용한다.</li>
+ * </ul>
+ * 사용 가능한 replica 가 없으면 primary 로 읽는다.
+ * 트랜잭션의 readOnly 속성은 커넥션을 얻은 뒤에 설정되므로, LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 시점에 라우팅해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+
+    private final List<ReplicaNode> replicas;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaNode> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targetDataSources.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    public List<ReplicaNode> replicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!isReadRouted()) {
+            return PRIMARY;
+        }
+
+        return selectReplica()
+            .map(ReplicaNode::name)
+            .orElse(PRIMARY);
+    }
+
+    static boolean isReadRouted() {
+        if (ReplicaRoutingContext.isPrimaryRequired()) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+
+        return ReplicaRoutingContext.isRead();
+    }
+
+    Optional<ReplicaNode> selectReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+
+        // 사용 중인 커넥션 수가 같으면 돌아가며 선택한다.
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        ReplicaNode selected = null;
+        int selectedActiveConnections = Integer.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (!replica.isAvailable()) {
+                continue;
+            }
+
+            int activeConnections = replica.activeConnections();
+            if (activeConnections < selectedActiveConnections) {
+                selected = replica;
+                selectedActiveConnections = activeConnections;
+            }
+        }
+
+        return Optional.ofNullable(selected);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ReplicaNode replica : replicas) {
+            replica.close();
+        }
+
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
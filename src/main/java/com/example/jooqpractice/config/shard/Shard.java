@@ -0,0 +1,14 @@
+package com.example.jooqpractice.config.shard;
+
+import java.util.Set;
+import org.jooq.DSLContext;
+
+/**
+ * @param storeIds 담당하는 store_id 목록, 비어있으면 모든 store 를 담당한다 (단일 샤드)
+ */
+public record Shard(String name, DSLContext dslContext, Set<Long> storeIds) {
+
+    public boolean ownsAllStores() {
+        return storeIds.isEmpty();
+    }
+}
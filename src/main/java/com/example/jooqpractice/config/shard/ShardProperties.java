@@ -0,0 +1,26 @@
+package com.example.jooqpractice.config.shard;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled         store_id 별로 rental, payment, inventory 를 나누어 저장한 DB 를 사용한다.
+ *                        (false 이면 spring.datasource 하나가 모든 store 를 담당하는 단일 샤드로 동작한다)
+ * @param nodes           샤드 목록, film 등 참조 테이블은 모든 샤드에 같은 데이터가 있어야 한다
+ * @param maximumPoolSize 샤드마다 사용할 커넥션 풀 크기
+ */
+@ConfigurationProperties("jooq.shard")
+public record ShardProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<Node> nodes,
+    @DefaultValue("4") int maximumPoolSize
+) {
+
+    /**
+     * @param storeIds 이 샤드가 담당하는 store_id 목록
+     */
+    public record Node(String name, String url, String username, String password, List<Long> storeIds) {
+
+    }
+}
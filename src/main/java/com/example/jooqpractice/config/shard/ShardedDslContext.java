@@ -0,0 +1,152 @@
+package com.example.jooqpractice.config.shard;
+
+import com.example.jooqpractice.config.FanOutProperties;
+import com.example.jooqpractice.utils.concurrent.FanOutScope;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import org.jooq.DSLContext;
+import org.jooq.impl.DataSourceConnectionProvider;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * store_id 로 rental, payment, inventory 가 저장된 샤드의 DSLContext 를 찾고,
+ * 모든 샤드에 같은 쿼리를 동시에 실행하여 (scatter-gather) 샤드별 결과를 모은다.
+ * <p>
+ * 샤드의 DSLContext 는 기본 DSLContext 의 설정(dialect, listener, RecordMapperProvider)을 그대로 사용하며,
+ * Spring 트랜잭션에 참여하지 않는다. (여러 샤드에 걸친 트랜잭션은 지원하지 않는다)
+ */
+@Component
+public class ShardedDslContext {
+    private final List<Shard> shards;
+
+    private final Map<Long, Shard> shardsByStoreId = new HashMap<>();
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+
+    private final FanOutProperties fanOutProperties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Semaphore connectionPermits;
+
+    public ShardedDslContext(DSLContext dslContext, DataSourceProperties dataSourceProperties,
+        ShardProperties shardProperties, FanOutProperties fanOutProperties) {
+        this.fanOutProperties = fanOutProperties;
+
+        if (!shardProperties.enabled()) {
+            // 샤드가 하나이면 scatter 는 호출한 스레드에서 바로 실행하므로 permits 를 사용하지 않는다.
+            this.shards = List.of(new Shard("default", dslContext, Set.of()));
+            this.connectionPermits = new Semaphore(1);
+            return;
+        }
+
+        validate(shardProperties);
+
+        List<Shard> shards = new ArrayList<>();
+        for (ShardProperties.Node node : shardProperties.nodes()) {
+            HikariDataSource dataSource = shardDataSource(dataSourceProperties, shardProperties, node);
+            dataSources.add(dataSource);
+
+            Shard shard = new Shard(node.name(),
+                dslContext.configuration().derive(new DataSourceConnectionProvider(dataSource)).dsl(),
+                Set.copyOf(node.storeIds()));
+            shards.add(shard);
+
+            for (Long storeId : shard.storeIds()) {
+                Shard previous = shardsByStoreId.putIfAbsent(storeId, shard);
+                if (previous != null) {
+                    throw new IllegalStateException(
+                        "store_id " + storeId + " is assigned to both " + previous.name() + " and " + shard.name());
+                }
+            }
+        }
+        this.shards = List.copyOf(shards);
+        // scatter 는 샤드마다 하나씩 쿼리를 실행하므로, 샤드별 풀 크기로 정한 상한을 샤드 수만큼 허용한다.
+        this.connectionPermits = new Semaphore(
+            shards.size() * fanOutProperties.connectionPermits(shardProperties.maximumPoolSize()));
+    }
+
+    public List<Shard> shards() {
+        return shards;
+    }
+
+    public DSLContext forStore(Long storeId) {
+        return shardForStore(storeId).dslContext();
+    }
+
+    public Shard shardForStore(Long storeId) {
+        if (shards.size() == 1 && shards.getFirst().ownsAllStores()) {
+            return shards.getFirst();
+        }
+
+        Shard shard = shardsByStoreId.get(storeId);
+        if (shard == null) {
+            throw new IllegalArgumentException("No shard is assigned to store_id " + storeId);
+        }
+        return shard;
+    }
+
+    /**
+     * 모든 샤드에서 query 를 동시에 실행하고, 샤드 순서대로 결과를 반환한다.
+     * 하나라도 실패하거나 jooq.fan-out.timeout 을 넘기면 나머지를 취소한다.
+     */
+    public <T> List<T> scatter(Function<Shard, T> query) {
+        if (shards.size() == 1) {
+            return List.of(query.apply(shards.getFirst()));
+        }
+
+        try (FanOutScope scope = new FanOutScope(executor, connectionPermits, fanOutProperties.timeout())) {
+            List<Future<T>> futures = shards.stream()
+                .map(shard -> scope.fork(() -> query.apply(shard)))
+                .toList();
+
+            scope.joinOrThrow("shard queries");
+
+            return futures.stream().map(Future::resultNow).toList();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+        dataSources.forEach(HikariDataSource::close);
+    }
+
+    /**
+     * store-ids 가 비어있는 샤드는 어떤 store 에도 라우팅되지 않고, scatter 집계에서는 store 조건 없이 전체를 읽게 되므로 허용하지 않는다.
+     */
+    private static void validate(ShardProperties shardProperties) {
+        if (shardProperties.nodes().isEmpty()) {
+            throw new IllegalStateException("jooq.shard.nodes must not be empty when sharding is enabled");
+        }
+
+        for (ShardProperties.Node node : shardProperties.nodes()) {
+            if (node.storeIds() == null || node.storeIds().isEmpty()) {
+                throw new IllegalStateException("Shard " + node.name() + " must have at least one store-id");
+            }
+        }
+    }
+
+    private static HikariDataSource shardDataSource(
+        DataSourceProperties dataSourceProperties, ShardProperties shardProperties, ShardProperties.Node node) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + node.name());
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(node.url());
+        dataSource.setUsername(node.username() != null ? node.username() : dataSourceProperties.determineUsername());
+        dataSource.setPassword(node.password() != null ? node.password() : dataSourceProperties.determinePassword());
+        dataSource.setMaximumPoolSize(shardProperties.maximumPoolSize());
+        return dataSource;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.jooqpractice.film;
+
+import com.example.jooqpractice.tables.pojos.Actor;
+import com.example.jooqpractice.tables.pojos.Film;
+import java.util.List;
+
+public record FilmDetail(
+    Film film,
+    List<Actor> actors,
+    FilmPriceSummary priceSummary,
+    FilmRentalSummary rentalSummary
+) {
+
+}
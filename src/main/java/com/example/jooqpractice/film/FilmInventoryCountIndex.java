@@ -0,0 +1,54 @@
+package com.example.jooqpractice.film;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * film_id 별 inventory 수.
+ * <p>
+ * inventory 가 변경되면 {@link #invalidate()} 로 cold 상태가 되며,
+ * 이때 {@link #snapshot()} 는 빈 Optional 을 반환하므로 호출 측에서 SQL 로 대체해야 한다.
+ * 집계 도중 inventory 가 변경된 경우 집계 결과로 다시 warm 상태가 되지 않도록 version 을 비교한다.
+ */
+@Component
+public class FilmInventoryCountIndex {
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Map<Long, Long> inventoryCounts;
+
+    public long version() {
+        return version.get();
+    }
+
+    public boolean isWarm() {
+        return inventoryCounts != null;
+    }
+
+    /**
+     * @param expectedVersion 집계를 시작하기 전에 {@link #version()} 으로 읽은 값
+     * @return 집계 도중 invalidate 되어 반영하지 않았으면 false
+     */
+    public synchronized boolean rebuild(Map<Long, Long> inventoryCounts, long expectedVersion) {
+        if (version.get() != expectedVersion) {
+            return false;
+        }
+
+        this.inventoryCounts = Map.copyOf(inventoryCounts);
+        return true;
+    }
+
+    public synchronized void invalidate() {
+        version.incrementAndGet();
+        inventoryCounts = null;
+    }
+
+    /**
+     * 현재 집계 결과 전체. 한 번의 조회에서는 이 snapshot 하나만 사용해야 조회 도중 무효화되어도 영화마다 다시 세지 않는다.
+     * (집계에 없는 film_id 는 inventory 가 0 개이다)
+     */
+    public Optional<Map<Long, Long>> snapshot() {
+        return Optional.ofNullable(inventoryCounts);
+    }
+}
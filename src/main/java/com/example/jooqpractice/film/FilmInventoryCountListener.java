@@ -0,0 +1,29 @@
+package com.example.jooqpractice.film;
+
+import com.example.jooqpractice.cache.QueryTables;
+import com.example.jooqpractice.tables.JInventory;
+import com.example.jooqpractice.utils.transaction.TransactionCallbackUtil;
+import lombok.RequiredArgsConstructor;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * DSL 로 inventory 에 INSERT/UPDATE/DELETE 가 실행되면 {@link FilmInventoryCountIndex} 를 무효화한다.
+ * 다시 채우는 것은 {@link FilmInventoryCountReconciler} 가 담당한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FilmInventoryCountListener implements ExecuteListener {
+    private static final String INVENTORY_TABLE = JInventory.INVENTORY.getName();
+
+    private final FilmInventoryCountIndex filmInventoryCountIndex;
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        if (QueryTables.writtenTables(ctx).contains(INVENTORY_TABLE)) {
+            filmInventoryCountIndex.invalidate();
+            TransactionCallbackUtil.runAfterCommit(filmInventoryCountIndex::invalidate);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.jooqpractice.film;
+
+import com.example.jooqpractice.config.datasource.ReplicaRoutingContext;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link FilmInventoryCountIndex} 를 DB 의 inventory 로 다시 채운다.
+ * <ul>
+ *     <li>무효화된 경우 refresh-interval 안에 다시 채운다.</li>
+ *     <li>Plain SQL 등 listener 가 감지하지 못한 변경을 바로잡기 위해 reconcile-interval 마다 전체를 다시 집계한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FilmInventoryCountReconciler {
+    private final FilmRepository filmRepository;
+
+    private final FilmInventoryCountIndex filmInventoryCountIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${jooq.inventory-count.refresh-interval:5s}")
+    public void refreshIfInvalidated() {
+        if (!filmInventoryCountIndex.isWarm()) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jooq.inventory-count.reconcile-interval:10m}")
+    public void reconcile() {
+        long version = filmInventoryCountIndex.version();
+
+        // replica 에서 읽으면 복제 지연만큼 이전의 수로 인덱스를 채우게 되므로 primary 에서 집계한다.
+        Map<Long, Long> inventoryCounts = ReplicaRoutingContext.onPrimary(filmRepository::countInventoryByFilm);
+
+        if (!filmInventoryCountIndex.rebuild(inventoryCounts, version)) {
+            log.debug("film 별 inventory 수 집계 중 inventory 가 변경되어 다음 주기에 다시 집계합니다.");
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.jooqpractice.film;
 
+import com.example.jooq.custom.mapper.GenerateRecordMapper;
 import lombok.Getter;
 
+@GenerateRecordMapper
 public record FilmPriceSummary(
     Long filmId,
     String filmTitle,
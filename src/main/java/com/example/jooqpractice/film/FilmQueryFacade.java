@@ -0,0 +1,106 @@
+package com.example.jooqpractice.film;
+
+import com.example.jooqpractice.config.FanOutProperties;
+import com.example.jooqpractice.tables.pojos.Actor;
+import com.example.jooqpractice.tables.pojos.Film;
+import com.example.jooqpractice.utils.concurrent.FanOutScope;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import javax.sql.DataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 영화 상세 화면에 필요한 FilmRepository 조회(영화, 배우, 가격 요약, 대여 요약)를 가상 스레드에서 동시에 실행한다.
+ * <p>
+ * 각 조회는 서로 다른 커넥션을 사용하므로 (트랜잭션 밖에서 실행된다),
+ * 모든 요청의 fan-out 쿼리가 함께 점유할 수 있는 커넥션 수를 Hikari 풀 크기로부터 정한다.
+ * ({@link FanOutProperties#connectionPermits(int)})
+ * 비교를 위해 순차 실행도 제공하며, 두 방식의 소요 시간을 mode 태그로 나누어 기록한다.
+ */
+@Component
+public class FilmQueryFacade {
+    static final String METRIC_NAME = "film.query.facade";
+
+    private final FilmRepository filmRepository;
+
+    private final FanOutProperties fanOutProperties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Semaphore connectionPermits;
+
+    private final Timer sequentialTimer;
+
+    private final Timer parallelTimer;
+
+    public FilmQueryFacade(FilmRepository filmRepository, FanOutProperties fanOutProperties, DataSource dataSource,
+        MeterRegistry meterRegistry) {
+        this.filmRepository = filmRepository;
+        this.fanOutProperties = fanOutProperties;
+        this.connectionPermits = new Semaphore(fanOutProperties.connectionPermits(maximumPoolSize(dataSource)));
+        this.sequentialTimer = timer(meterRegistry, "sequential");
+        this.parallelTimer = timer(meterRegistry, "parallel");
+    }
+
+    public Optional<FilmDetail> getFilmDetail(Long filmId) {
+        return parallelTimer.record(() -> {
+            try (FanOutScope scope = new FanOutScope(executor, connectionPermits, fanOutProperties.timeout())) {
+                Future<Film> film = scope.fork(() -> filmRepository.findById(filmId));
+                Future<List<Actor>> actors = scope.fork(() -> filmRepository.findActorsByFilmId(filmId));
+                Future<FilmPriceSummary> priceSummary = scope.fork(() -> filmRepository.findFilmPriceSummaryByFilmId(filmId));
+                Future<FilmRentalSummary> rentalSummary = scope.fork(() -> filmRepository.findFilmRentalSummaryByFilmId(filmId));
+
+                scope.joinOrThrow("film detail queries");
+
+                return Optional.ofNullable(film.resultNow())
+                    .map(it -> new FilmDetail(it, actors.resultNow(), priceSummary.resultNow(), rentalSummary.resultNow()));
+            }
+        });
+    }
+
+    public Optional<FilmDetail> getFilmDetailSequentially(Long filmId) {
+        return sequentialTimer.record(() -> Optional.ofNullable(filmRepository.findById(filmId))
+            .map(film -> new FilmDetail(
+                film,
+                filmRepository.findActorsByFilmId(filmId),
+                filmRepository.findFilmPriceSummaryByFilmId(filmId),
+                filmRepository.findFilmRentalSummaryByFilmId(filmId))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+
+    /**
+     * replica 라우팅을 사용하면 DataSource 가 LazyConnectionDataSourceProxy 로 감싸져 있으므로 unwrap 하여 primary 풀을 찾는다.
+     */
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to resolve the connection pool size", e);
+        }
+
+        throw new IllegalStateException("Fan-out requires a HikariDataSource: " + dataSource.getClass().getName());
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder(METRIC_NAME)
+            .description("영화 상세 조회 소요 시간 (sequential: 순차 실행, parallel: 가상 스레드 fan-out)")
+            .tag("mode", mode)
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+}
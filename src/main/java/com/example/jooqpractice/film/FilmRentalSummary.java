@@ -1,5 +1,8 @@
 package com.example.jooqpractice.film;
 
+import com.example.jooq.custom.mapper.GenerateRecordMapper;
+
+@GenerateRecordMapper
 public record FilmRentalSummary(
     Long filmId,
     String filmTitle,
@@ -0,0 +1,16 @@
+package com.example.jooqpractice.film;
+
+/**
+ * 평균 대여 기간을 어디서 읽을지.
+ */
+public enum FilmRentalSummarySource {
+    /**
+     * 조회할 때마다 rental 전체를 film 별로 집계한다.
+     */
+    DERIVED_TABLE,
+
+    /**
+     * 반납 시점에 증분 갱신되는 film_rental_stats 를 읽는다.
+     */
+    STATS_TABLE
+}
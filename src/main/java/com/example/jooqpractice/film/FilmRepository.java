@@ -1,17 +1,46 @@
 package com.example.jooqpractice.film;
 
+import static com.example.jooqpractice.utils.jooq.JooqFullTextSearchUtil.matchBoolean;
+import static com.example.jooqpractice.utils.jooq.JooqFullTextSearchUtil.matchNaturalLanguage;
+import static com.example.jooqpractice.utils.jooq.JooqListConditionUtil.inIfNotEmpty;
+import static com.example.jooqpractice.utils.jooq.JooqSeekConditionUtil.afterIfPresent;
+
+import com.example.jooqpractice.cache.EntityCache;
+import com.example.jooqpractice.cache.QueryResultCache;
 import com.example.jooqpractice.config.converter.PriceCategoryConverter;
+import com.example.jooqpractice.config.datasource.ReplicaRead;
 import com.example.jooqpractice.tables.JActor;
 import com.example.jooqpractice.tables.JFilm;
 import com.example.jooqpractice.tables.JFilmActor;
+import com.example.jooqpractice.tables.JFilmRentalStats;
+import com.example.jooqpractice.tables.JFilmText;
 import com.example.jooqpractice.tables.JInventory;
 import com.example.jooqpractice.tables.JRental;
+import com.example.jooqpractice.tables.pojos.Actor;
 import com.example.jooqpractice.tables.pojos.Film;
+import com.example.jooqpractice.utils.jooq.QueryTemplate;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.DatePart;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Record3;
+import org.jooq.Records;
+import org.jooq.ResultQuery;
+import org.jooq.Select;
+import org.jooq.SelectLimitStep;
+import org.jooq.SelectOnConditionStep;
+import org.jooq.SelectField;
+import org.jooq.SortField;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -24,34 +53,103 @@ public class FilmRepository {
 
     private static final JFilmActor FILM_ACTOR = JFilmActor.FILM_ACTOR;
 
+    private static final JFilmText FILM_TEXT = JFilmText.FILM_TEXT;
+
     private static final JActor ACTOR = JActor.ACTOR;
 
     private static final JInventory INVENTORY = JInventory.INVENTORY;
 
     private static final JRental RENTAL = JRental.RENTAL;
 
+    private static final JFilmRentalStats FILM_RENTAL_STATS = JFilmRentalStats.FILM_RENTAL_STATS;
+
+    // 자주 호출되는 단건 조회는 SQL 을 한 번만 렌더링하여 재사용한다.
+    private static final QueryTemplate FILM_BY_ID = QueryTemplate.of(DSL
+        .select(FILM.fields())
+        .from(FILM)
+        .where(FILM.FILM_ID.eq(DSL.param("filmId", FILM.FILM_ID))));
+
+    private static final QueryTemplate SIMPLE_FILM_INFO_BY_ID = QueryTemplate.of(DSL
+        .select(
+            FILM.FILM_ID,
+            FILM.TITLE,
+            FILM.DESCRIPTION)
+        .from(FILM)
+        .where(FILM.FILM_ID.eq(DSL.param("filmId", FILM.FILM_ID))));
+
+    private static final QueryTemplate ACTORS_BY_FILM_ID = QueryTemplate.of(DSL
+        .select(ACTOR.fields())
+        .from(FILM_ACTOR)
+        .join(ACTOR).on(ACTOR.ACTOR_ID.eq(FILM_ACTOR.ACTOR_ID))
+        .where(FILM_ACTOR.FILM_ID.eq(DSL.param("filmId", FILM_ACTOR.FILM_ID)))
+        .orderBy(ACTOR.ACTOR_ID));
+
     private final DSLContext dslContext;
 
+    private final EntityCache entityCache;
+
+    private final QueryResultCache queryResultCache;
+
+    private final FilmInventoryCountIndex filmInventoryCountIndex;
+
+    private final RentedFilmIndex rentedFilmIndex;
+
     public Film findById(Long id) {
+        return entityCache.get(FILM, id, Film.class,
+            () -> selectFilmById(dslContext, id).fetchOneInto(Film.class), Film::new);
+    }
+
+    @ReplicaRead
+    public List<Film> findByFilmIdIn(List<Long> filmIds) {
+        return dslContext.selectFrom(FILM)
+            .where(inIfNotEmpty(FILM.FILM_ID, filmIds))
+            .fetchInto(Film.class);
+    }
+
+    public SimpleFilmInfo findSimpleInfoById(Long id) {
+        return entityCache.get(FILM, id, SimpleFilmInfo.class,
+            () -> SIMPLE_FILM_INFO_BY_ID.query(dslContext, id).fetchOneInto(SimpleFilmInfo.class));
+    }
+
+    @ReplicaRead
+    public List<Actor> findActorsByFilmId(Long filmId) {
+        return ACTORS_BY_FILM_ID.query(dslContext, filmId).fetchInto(Actor.class);
+    }
+
+    @ReplicaRead
+    public FilmPriceSummary findFilmPriceSummaryByFilmId(Long filmId) {
         return dslContext
-            .select(FILM.fields())
+            .select(filmPriceSummaryFields(correlatedInventoryCount()))
             .from(FILM)
-            .where(FILM.FILM_ID.eq(id))
-            .fetchOneInto(Film.class);
+            .where(FILM.FILM_ID.eq(filmId))
+            .fetchOneInto(FilmPriceSummary.class);
     }
 
-    public SimpleFilmInfo findSimpleInfoById(Long id) {
+    @ReplicaRead
+    public FilmRentalSummary findFilmRentalSummaryByFilmId(Long filmId) {
         return dslContext
             .select(
                 FILM.FILM_ID,
                 FILM.TITLE,
-                FILM.DESCRIPTION)
+                DSL.avg(DSL.localDateTimeDiff(DatePart.DAY, RENTAL.RENTAL_DATE, RENTAL.RETURN_DATE)))
             .from(FILM)
-            .where(FILM.FILM_ID.eq(id))
-            .fetchOneInto(SimpleFilmInfo.class);
+            .leftJoin(INVENTORY).on(INVENTORY.FILM_ID.eq(FILM.FILM_ID))
+            .leftJoin(RENTAL).on(RENTAL.INVENTORY_ID.eq(INVENTORY.INVENTORY_ID), RENTAL.RETURN_DATE.isNotNull())
+            .where(FILM.FILM_ID.eq(filmId))
+            .groupBy(FILM.FILM_ID, FILM.TITLE)
+            .fetchOneInto(FilmRentalSummary.class);
     }
 
+    @ReplicaRead
     public List<FilmWithActor> findFilmWithActorList(Pageable pageable) {
+        return selectFilmWithActorList(dslContext, pageable).fetchInto(FilmWithActor.class);
+    }
+
+    @ReplicaRead
+    public List<FilmWithActor> findFilmWithActorListAfter(FilmWithActorCursor cursor, int limit) {
+        Long filmId = cursor == null ? null : cursor.filmId();
+        Long actorId = cursor == null ? null : cursor.actorId();
+
         return dslContext
             .select(
                 DSL.row(FILM.fields()),
@@ -60,14 +158,59 @@ public class FilmRepository {
             ).from(FILM)
             .leftJoin(FILM_ACTOR).on(FILM.FILM_ID.eq(FILM_ACTOR.FILM_ID))
             .leftJoin(ACTOR).on(ACTOR.ACTOR_ID.eq(FILM_ACTOR.ACTOR_ID))
+            .where(afterIfPresent(FILM.FILM_ID, FILM_ACTOR.ACTOR_ID, filmId, actorId))
+            .orderBy(FILM.FILM_ID, FILM_ACTOR.ACTOR_ID)
+            .limit(limit)
+            .fetchInto(FilmWithActor.class);
+    }
+
+    /**
+     * 전체 영화-배우 목록을 한 번의 쿼리로 스트리밍한다. 반환된 Stream 은 반드시 close 해야 커넥션이 반환된다.
+     */
+    @ReplicaRead
+    public Stream<FilmWithActor> streamFilmWithActorList() {
+        return selectAllFilmWithActorList(dslContext)
+            .fetchSize(Integer.MIN_VALUE) // MySQL Connector/J 에서 결과를 한 번에 적재하지 않고 row 단위로 스트리밍한다.
+            .fetchStreamInto(FilmWithActor.class);
+    }
+
+    @ReplicaRead
+    public List<FilmWithActors> findFilmWithActorsList(Pageable pageable) {
+        // 1단계: PK 인덱스만으로 페이지에 해당하는 film_id 를 조회한다. (조인 행이 아닌 영화 단위로 페이징)
+        List<Long> filmIds = dslContext
+            .select(FILM.FILM_ID)
+            .from(FILM)
+            .orderBy(FILM.FILM_ID)
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
-            .fetchInto(FilmWithActor.class);
+            .fetch(FILM.FILM_ID);
+
+        if (filmIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 2단계: 영화 컬럼은 영화당 1번만, 배우 목록은 MULTISET 으로 중첩하여 한 번의 쿼리로 조회한다.
+        // (MySQL 은 IN 서브쿼리 안의 LIMIT 을 지원하지 않으므로 두 번의 쿼리로 나눈다.)
+        return dslContext
+            .select(
+                DSL.row(FILM.fields()).convertFrom(it -> it.into(Film.class)),
+                DSL.multiset(
+                    DSL.select(ACTOR.fields())
+                        .from(FILM_ACTOR)
+                        .join(ACTOR).on(ACTOR.ACTOR_ID.eq(FILM_ACTOR.ACTOR_ID))
+                        .where(FILM_ACTOR.FILM_ID.eq(FILM.FILM_ID))
+                        .orderBy(ACTOR.ACTOR_ID)
+                ).convertFrom(it -> it.into(Actor.class))
+            ).from(FILM)
+            .where(FILM.FILM_ID.in(filmIds))
+            .orderBy(FILM.FILM_ID)
+            .fetch(Records.mapping(FilmWithActors::new));
     }
 
     /**
      * @deprecated NOT RECOMMENDED
      */
+    @ReplicaRead
     @Deprecated(since = "NOT RECOMMENDED")
     public List<FilmWithActor> findFilmWithActorListByImplicitPathJoin(Pageable pageable) {
         return dslContext
@@ -81,6 +224,7 @@ public class FilmRepository {
             .fetchInto(FilmWithActor.class);
     }
 
+    @ReplicaRead
     public List<FilmWithActor> findFilmWithActorListByExplicitPathJoin(Pageable pageable) {
         return dslContext
             .select(
@@ -95,27 +239,153 @@ public class FilmRepository {
             .fetchInto(FilmWithActor.class);
     }
 
+    @ReplicaRead
     public List<FilmPriceSummary> findFilmPriceSummaryByFilmTitle(String filmTitle) {
+        return findFilmPriceSummaryByFilmTitle(filmTitle, FilmSearchMode.CONTAINS);
+    }
+
+    @ReplicaRead
+    public List<FilmPriceSummary> findFilmPriceSummaryByFilmTitle(String filmTitle, FilmSearchMode searchMode) {
+        return findFilmPriceSummaryByFilmTitle(filmTitle, searchMode, InventoryCountSource.CORRELATED_SUBQUERY);
+    }
+
+    @ReplicaRead
+    public List<FilmPriceSummary> findFilmPriceSummaryByFilmTitle(
+        String filmTitle, FilmSearchMode searchMode, InventoryCountSource inventoryCountSource) {
+        return switch (inventoryCountSource) {
+            case CORRELATED_SUBQUERY -> findFilmPriceSummaryWithInventoryCount(filmTitle, searchMode,
+                correlatedInventoryCount());
+            case GROUPED_JOIN -> findFilmPriceSummaryByGroupedJoin(filmTitle, searchMode);
+            // 조회 시작 시점의 집계 하나만 사용하고, cold 상태면 조회 전체를 grouped join 으로 대체한다.
+            case IN_MEMORY_INDEX -> filmInventoryCountIndex.snapshot()
+                .map(inventoryCounts -> findFilmPriceSummaryByInventoryCountIndex(filmTitle, searchMode, inventoryCounts))
+                .orElseGet(() -> findFilmPriceSummaryByGroupedJoin(filmTitle, searchMode));
+        };
+    }
+
+    private List<FilmPriceSummary> findFilmPriceSummaryByGroupedJoin(String filmTitle, FilmSearchMode searchMode) {
+        // 검색된 영화마다 서브쿼리를 실행하는 대신, inventory 를 film_id 별로 한 번만 집계하여 join 한다.
+        var inventoryCountAlias = "inventoryCount";
+        var inventoryCountSubquery = DSL
+            .select(INVENTORY.FILM_ID, DSL.count().as(inventoryCountAlias))
+            .from(INVENTORY)
+            .groupBy(INVENTORY.FILM_ID)
+            .asTable("inventoryCountInfo");
+
         return dslContext
-            .select(
-                FILM.FILM_ID,
-                FILM.TITLE,
-                FILM.RENTAL_RATE,
-                DSL.case_()
-                    .when(FILM.RENTAL_RATE.le(BigDecimal.valueOf(1.0)), "Cheap")
-                    .when(FILM.RENTAL_RATE.le(BigDecimal.valueOf(3.0)), "Normal")
-                    .otherwise("Expensive")
-                    .as("priceCategory").convert(new PriceCategoryConverter()),
-                DSL.selectCount()
-                    .from(INVENTORY.where(INVENTORY.FILM_ID.eq(FILM.FILM_ID)))
-                    .asField("totalInventory")
-            ).from(FILM)
-            .where(FILM.TITLE.contains(filmTitle))
+            .select(filmPriceSummaryFields(
+                DSL.coalesce(inventoryCountSubquery.field(inventoryCountAlias, Integer.class), 0)))
+            .from(filmSearchSource(searchMode))
+            .leftJoin(inventoryCountSubquery)
+            .on(FILM.FILM_ID.eq(inventoryCountSubquery.field(INVENTORY.FILM_ID)))
+            .where(filmSearchCondition(filmTitle, searchMode))
+            .orderBy(filmSearchRelevanceOrder(filmTitle, searchMode))
+            .fetchInto(FilmPriceSummary.class);
+    }
+
+    private List<FilmPriceSummary> findFilmPriceSummaryByInventoryCountIndex(
+        String filmTitle, FilmSearchMode searchMode, Map<Long, Long> inventoryCounts) {
+        return findFilmPriceSummaryWithInventoryCount(filmTitle, searchMode, DSL.inline(0L)).stream()
+            .map(summary -> new FilmPriceSummary(
+                summary.filmId(),
+                summary.filmTitle(),
+                summary.rentalRate(),
+                summary.priceCategory(),
+                inventoryCounts.getOrDefault(summary.filmId(), 0L)))
+            .toList();
+    }
+
+    private List<FilmPriceSummary> findFilmPriceSummaryWithInventoryCount(
+        String filmTitle, FilmSearchMode searchMode, Field<?> inventoryCount) {
+        return selectFilmPriceSummary(dslContext, filmTitle, searchMode, inventoryCount)
             .fetchInto(FilmPriceSummary.class);
     }
 
+    static ResultQuery<Record> selectFilmPriceSummary(
+        DSLContext dslContext, String filmTitle, FilmSearchMode searchMode, Field<?> inventoryCount) {
+        return dslContext
+            .select(filmPriceSummaryFields(inventoryCount))
+            .from(filmSearchSource(searchMode))
+            .where(filmSearchCondition(filmTitle, searchMode))
+            .orderBy(filmSearchRelevanceOrder(filmTitle, searchMode));
+    }
+
+    static Field<Integer> correlatedInventoryCount() {
+        return DSL.selectCount()
+            .from(INVENTORY.where(INVENTORY.FILM_ID.eq(FILM.FILM_ID)))
+            .asField("totalInventory");
+    }
+
+    private static List<SelectField<?>> filmPriceSummaryFields(Field<?> inventoryCount) {
+        return List.of(
+            FILM.FILM_ID,
+            FILM.TITLE,
+            FILM.RENTAL_RATE,
+            DSL.case_()
+                .when(FILM.RENTAL_RATE.le(BigDecimal.valueOf(1.0)), "Cheap")
+                .when(FILM.RENTAL_RATE.le(BigDecimal.valueOf(3.0)), "Normal")
+                .otherwise("Expensive")
+                .as("priceCategory").convert(new PriceCategoryConverter()),
+            inventoryCount
+        );
+    }
+
+    public Map<Long, Long> countInventoryByFilm() {
+        Field<Long> inventoryCount = DSL.count().coerce(Long.class);
+
+        return dslContext
+            .select(INVENTORY.FILM_ID, inventoryCount)
+            .from(INVENTORY)
+            .groupBy(INVENTORY.FILM_ID)
+            .fetchMap(INVENTORY.FILM_ID, inventoryCount);
+    }
+
+    @ReplicaRead
     public List<FilmRentalSummary> findFilmRentalSummaryByFilmTitleOrderByRentalDuration(
         String filmTitle) {
+        return findFilmRentalSummaryByFilmTitleOrderByRentalDuration(filmTitle, FilmSearchMode.CONTAINS);
+    }
+
+    @ReplicaRead
+    public List<FilmRentalSummary> findFilmRentalSummaryByFilmTitleOrderByRentalDuration(
+        String filmTitle, FilmSearchMode searchMode) {
+        return findFilmRentalSummaryByFilmTitleOrderByRentalDuration(filmTitle, searchMode, FilmRentalSummarySource.DERIVED_TABLE);
+    }
+
+    @ReplicaRead
+    public List<FilmRentalSummary> findFilmRentalSummaryByFilmTitleOrderByRentalDuration(
+        String filmTitle, FilmSearchMode searchMode, FilmRentalSummarySource source) {
+        if (source == FilmRentalSummarySource.STATS_TABLE) {
+            return findFilmRentalSummaryFromStatsTable(filmTitle, searchMode);
+        }
+
+        // rental 전체를 집계하므로, 같은 인자로 반복 조회되는 결과를 캐시한다.
+        return selectFilmRentalSummary(queryResultCache.cachingDsl(dslContext), filmTitle, searchMode)
+            .fetchInto(FilmRentalSummary.class);
+    }
+
+    /**
+     * 평균 대여 기간을 DB 밖에서 구한 경우 (예: 샤드별 부분 집계를 합친 결과), 검색된 영화에 채워서 평균 대여 기간 순으로 정렬한다.
+     * 평균 대여 기간이 같으면 검색 관련도 순서를 유지한다.
+     */
+    @ReplicaRead
+    public List<FilmRentalSummary> findFilmRentalSummaryByFilmTitleOrderByRentalDuration(
+        String filmTitle, FilmSearchMode searchMode, Map<Long, Double> averageRentalDurations) {
+        return dslContext
+            .select(FILM.FILM_ID, FILM.TITLE)
+            .from(filmSearchSource(searchMode))
+            .where(filmSearchCondition(filmTitle, searchMode))
+            .orderBy(filmSearchRelevanceOrder(filmTitle, searchMode))
+            .fetch(Records.mapping((filmId, title) ->
+                new FilmRentalSummary(filmId, title, averageRentalDurations.get(filmId))))
+            .stream()
+            .sorted(Comparator.comparing(FilmRentalSummary::rentalDuration,
+                Comparator.nullsLast(Comparator.reverseOrder())))
+            .toList();
+    }
+
+    static ResultQuery<? extends Record> selectFilmRentalSummary(
+        DSLContext dslContext, String filmTitle, FilmSearchMode searchMode) {
         var averageRentalDurationAlias = "averageRentalDuration";
         var rentalDurationInfoSubquery = DSL
             .select(
@@ -128,30 +398,163 @@ public class FilmRepository {
             .groupBy(INVENTORY.FILM_ID)
             .asTable("rentalDurationInfo");
 
+        List<SortField<?>> orderFields = new ArrayList<>();
+        orderFields.add(rentalDurationInfoSubquery.field(averageRentalDurationAlias).desc().nullsLast());
+        orderFields.addAll(filmSearchRelevanceOrder(filmTitle, searchMode));
+
         return dslContext
             .select(
                 FILM.FILM_ID,
                 FILM.TITLE,
                 rentalDurationInfoSubquery.field(averageRentalDurationAlias)
-            ).from(FILM)
+            ).from(filmSearchSource(searchMode))
             .leftJoin(rentalDurationInfoSubquery)
             .on(FILM.FILM_ID.eq(rentalDurationInfoSubquery.field(INVENTORY.FILM_ID)))
-            .where(FILM.TITLE.contains(filmTitle))
-            .orderBy(
-                rentalDurationInfoSubquery.field(averageRentalDurationAlias).desc().nullsLast())
+            .where(filmSearchCondition(filmTitle, searchMode))
+            .orderBy(orderFields);
+    }
+
+    private List<FilmRentalSummary> findFilmRentalSummaryFromStatsTable(String filmTitle, FilmSearchMode searchMode) {
+        List<SortField<?>> orderFields = new ArrayList<>();
+        orderFields.add(FILM_RENTAL_STATS.AVERAGE_RENTAL_DURATION.desc().nullsLast());
+        orderFields.addAll(filmSearchRelevanceOrder(filmTitle, searchMode));
+
+        return dslContext
+            .select(
+                FILM.FILM_ID,
+                FILM.TITLE,
+                FILM_RENTAL_STATS.AVERAGE_RENTAL_DURATION
+            ).from(filmSearchSource(searchMode))
+            .leftJoin(FILM_RENTAL_STATS).on(FILM_RENTAL_STATS.FILM_ID.eq(FILM.FILM_ID))
+            .where(filmSearchCondition(filmTitle, searchMode))
+            .orderBy(orderFields)
             .fetchInto(FilmRentalSummary.class);
     }
 
+    @ReplicaRead
     public List<Film> findRentedFilmsByFilmTitle(String filmTitle) {
-        return dslContext
-            .select(FILM.fields())
-            .from(FILM)
-            .where(FILM.TITLE.contains(filmTitle))
-            .andExists(DSL.selectOne()
+        return findRentedFilmsByFilmTitle(filmTitle, FilmSearchMode.CONTAINS);
+    }
+
+    @ReplicaRead
+    public List<Film> findRentedFilmsByFilmTitle(String filmTitle, FilmSearchMode searchMode) {
+        return findRentedFilmsByFilmTitle(filmTitle, searchMode, RentedFilmFilter.EXISTS_SUBQUERY);
+    }
+
+    @ReplicaRead
+    public List<Film> findRentedFilmsByFilmTitle(String filmTitle, FilmSearchMode searchMode, RentedFilmFilter filter) {
+        if (filter == RentedFilmFilter.BITMAP && rentedFilmIndex.isWarm()) {
+            // 대여 여부는 메모리에서 확인하므로 제목 조건만으로 조회한다.
+            return findFilmsByFilmTitle(filmTitle, searchMode, DSL.noCondition()).stream()
+                .filter(film -> rentedFilmIndex.isRented(film.getFilmId()))
+                .toList();
+        }
+
+        Condition rentedCondition = filter == RentedFilmFilter.EXISTS_SUBQUERY
+            ? DSL.exists(DSL.selectOne()
                 .from(INVENTORY)
                 .leftJoin(RENTAL).on(RENTAL.INVENTORY_ID.eq(INVENTORY.INVENTORY_ID))
                 .where(INVENTORY.FILM_ID.eq(FILM.FILM_ID))
                 .and(RENTAL.RENTAL_DATE.isNotNull()))
+            : FILM.FILM_ID.in(rentedFilmIdsSubquery());
+
+        return findFilmsByFilmTitle(filmTitle, searchMode, rentedCondition);
+    }
+
+    /**
+     * 대여된 적이 있는 film_id 를 중복 없이 한 번의 쿼리로 조회한다.
+     */
+    public List<Long> findRentedFilmIds() {
+        return dslContext.selectDistinct(INVENTORY.FILM_ID)
+            .from(INVENTORY)
+            .join(RENTAL).on(RENTAL.INVENTORY_ID.eq(INVENTORY.INVENTORY_ID))
+            .fetch(INVENTORY.FILM_ID);
+    }
+
+    private List<Film> findFilmsByFilmTitle(String filmTitle, FilmSearchMode searchMode, Condition condition) {
+        return dslContext
+            .select(FILM.fields())
+            .from(filmSearchSource(searchMode))
+            .where(filmSearchCondition(filmTitle, searchMode))
+            .and(condition)
+            .orderBy(filmSearchRelevanceOrder(filmTitle, searchMode))
             .fetchInto(Film.class);
     }
+
+    /**
+     * IN 서브쿼리에 GROUP BY 나 집계가 있으면 MySQL 은 semi-join 으로 변환하지 못하므로, 중복을 그대로 두고 조인만 한다.
+     * (중복 제거는 semi-join 이 처리한다)
+     */
+    private static Select<Record1<Long>> rentedFilmIdsSubquery() {
+        return DSL.select(INVENTORY.FILM_ID)
+            .from(INVENTORY)
+            .join(RENTAL).on(RENTAL.INVENTORY_ID.eq(INVENTORY.INVENTORY_ID));
+    }
+
+    /*
+     * 아래 select* 메서드는 쿼리만 구성하고 실행하지 않으므로,
+     * JDBC 로 실행하는 이 클래스와 R2DBC 로 실행하는 ReactiveFilmRepository 가 같은 쿼리를 사용한다.
+     */
+
+    static ResultQuery<Record> selectFilmById(DSLContext dslContext, Long id) {
+        return FILM_BY_ID.query(dslContext, id);
+    }
+
+    static ResultQuery<? extends Record> selectFilmWithActorList(DSLContext dslContext, Pageable pageable) {
+        return filmWithActorSelect(dslContext)
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize());
+    }
+
+    static SelectLimitStep<? extends Record> selectAllFilmWithActorList(DSLContext dslContext) {
+        return filmWithActorSelect(dslContext)
+            .orderBy(FILM.FILM_ID, FILM_ACTOR.ACTOR_ID);
+    }
+
+    private static SelectOnConditionStep<Record3<Record, Record, Record>> filmWithActorSelect(DSLContext dslContext) {
+        return dslContext
+            .select(
+                DSL.row(FILM.fields()),
+                DSL.row(FILM_ACTOR.fields()),
+                DSL.row(ACTOR.fields())
+            ).from(FILM)
+            .leftJoin(FILM_ACTOR).on(FILM.FILM_ID.eq(FILM_ACTOR.FILM_ID))
+            .leftJoin(ACTOR).on(ACTOR.ACTOR_ID.eq(FILM_ACTOR.ACTOR_ID));
+    }
+
+    /**
+     * FULLTEXT 검색 모드에서는 ins_film/upd_film 트리거로 동기화되는 film_text 를 조인한다.
+     * (film_text.film_id 는 signed INT 이므로 CAST 없이 비교하도록 coerce 한다.)
+     */
+    private static Table<?> filmSearchSource(FilmSearchMode searchMode) {
+        if (!searchMode.isFullText()) {
+            return FILM;
+        }
+
+        return FILM.join(FILM_TEXT).on(FILM_TEXT.FILM_ID.coerce(Long.class).eq(FILM.FILM_ID));
+    }
+
+    private static Condition filmSearchCondition(String filmTitle, FilmSearchMode searchMode) {
+        if (!searchMode.isFullText()) {
+            return FILM.TITLE.contains(filmTitle);
+        }
+
+        return DSL.condition("{0}", filmSearchRelevance(filmTitle, searchMode));
+    }
+
+    private static List<SortField<?>> filmSearchRelevanceOrder(String filmTitle, FilmSearchMode searchMode) {
+        if (!searchMode.isFullText()) {
+            return List.of();
+        }
+
+        return List.of(filmSearchRelevance(filmTitle, searchMode).desc());
+    }
+
+    private static Field<Double> filmSearchRelevance(String filmTitle, FilmSearchMode searchMode) {
+        return switch (searchMode) {
+            case NATURAL_LANGUAGE -> matchNaturalLanguage(filmTitle, FILM_TEXT.TITLE, FILM_TEXT.DESCRIPTION);
+            case BOOLEAN -> matchBoolean(filmTitle, FILM_TEXT.TITLE, FILM_TEXT.DESCRIPTION);
+            case CONTAINS -> throw new IllegalArgumentException("Not a full-text search mode: " + searchMode);
+        };
+    }
 }
@@ -1,5 +1,9 @@
 package com.example.jooqpractice.film;
 
+import static com.example.jooqpractice.utils.jooq.JooqSeekConditionUtil.afterIfPresent;
+
+import com.example.jooqpractice.cache.EntityCache;
+import com.example.jooqpractice.config.datasource.ReplicaRead;
 import com.example.jooqpractice.tables.JActor;
 import com.example.jooqpractice.tables.JFilm;
 import com.example.jooqpractice.tables.JFilmActor;
@@ -25,15 +29,20 @@ public class FilmRepositoryHasDao {
 
     private final FilmDao filmDao;
 
-    public FilmRepositoryHasDao(DSLContext dslContext, Configuration configuration) {
+    private final EntityCache entityCache;
+
+    public FilmRepositoryHasDao(DSLContext dslContext, Configuration configuration, EntityCache entityCache) {
         this.dslContext = dslContext;
         this.filmDao = new FilmDao(configuration);
+        this.entityCache = entityCache;
     }
 
     public Film findById(Long id) {
-        return filmDao.fetchOneByFilmId(id);  // filmDao.findById(id);
+        return entityCache.get(FILM, id, Film.class,
+            () -> filmDao.fetchOneByFilmId(id), Film::new);  // filmDao.findById(id);
     }
 
+    @ReplicaRead
     public List<Film> findByRangeBetween(Integer from, Integer to) {
         return filmDao.fetchRangeOfLength(from, to);
     }
@@ -48,6 +57,7 @@ public class FilmRepositoryHasDao {
             .fetchOneInto(SimpleFilmInfo.class);
     }
 
+    @ReplicaRead
     public List<FilmWithActor> findFilmWithActorList(Pageable pageable) {
         return dslContext.select(
                 DSL.row(FILM.fields()),
@@ -60,4 +70,22 @@ public class FilmRepositoryHasDao {
             .limit(pageable.getPageSize())
             .fetchInto(FilmWithActor.class);
     }
+
+    @ReplicaRead
+    public List<FilmWithActor> findFilmWithActorListAfter(FilmWithActorCursor cursor, int limit) {
+        Long filmId = cursor == null ? null : cursor.filmId();
+        Long actorId = cursor == null ? null : cursor.actorId();
+
+        return dslContext.select(
+                DSL.row(FILM.fields()),
+                DSL.row(FILM_ACTOR.fields()),
+                DSL.row(ACTOR.fields())
+            ).from(FILM)
+            .leftJoin(FILM_ACTOR).on(FILM.FILM_ID.eq(FILM_ACTOR.FILM_ID))
+            .leftJoin(ACTOR).on(ACTOR.ACTOR_ID.eq(FILM_ACTOR.ACTOR_ID))
+            .where(afterIfPresent(FILM.FILM_ID, FILM_ACTOR.ACTOR_ID, filmId, actorId))
+            .orderBy(FILM.FILM_ID, FILM_ACTOR.ACTOR_ID)
+            .limit(limit)
+            .fetchInto(FilmWithActor.class);
+    }
 }
@@ -1,5 +1,8 @@
 package com.example.jooqpractice.film;
 
+import static com.example.jooqpractice.utils.jooq.JooqSeekConditionUtil.afterIfPresent;
+
+import com.example.jooqpractice.config.datasource.ReplicaRead;
 import com.example.jooqpractice.tables.JActor;
 import com.example.jooqpractice.tables.JFilm;
 import com.example.jooqpractice.tables.JFilmActor;
@@ -43,6 +46,7 @@ public class FilmRepositoryIsDao extends FilmDao {
             .fetchOneInto(SimpleFilmInfo.class);
     }
 
+    @ReplicaRead
     public List<FilmWithActor> findFilmWithActorList(Pageable pageable) {
         return dslContext.select(
                 DSL.row(FILM.fields()),
@@ -55,4 +59,22 @@ public class FilmRepositoryIsDao extends FilmDao {
             .limit(pageable.getPageSize())
             .fetchInto(FilmWithActor.class);
     }
+
+    @ReplicaRead
+    public List<FilmWithActor> findFilmWithActorListAfter(FilmWithActorCursor cursor, int limit) {
+        Long filmId = cursor == null ? null : cursor.filmId();
+        Long actorId = cursor == null ? null : cursor.actorId();
+
+        return dslContext.select(
+                DSL.row(FILM.fields()),
+                DSL.row(FILM_ACTOR.fields()),
+                DSL.row(ACTOR.fields())
+            ).from(FILM)
+            .leftJoin(FILM_ACTOR).on(FILM.FILM_ID.eq(FILM_ACTOR.FILM_ID))
+            .leftJoin(ACTOR).on(ACTOR.ACTOR_ID.eq(FILM_ACTOR.ACTOR_ID))
+            .where(afterIfPresent(FILM.FILM_ID, FILM_ACTOR.ACTOR_ID, filmId, actorId))
+            .orderBy(FILM.FILM_ID, FILM_ACTOR.ACTOR_ID)
+            .limit(limit)
+            .fetchInto(FilmWithActor.class);
+    }
 }
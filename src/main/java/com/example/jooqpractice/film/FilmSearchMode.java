@@ -0,0 +1,20 @@
+package com.example.jooqpractice.film;
+
+public enum FilmSearchMode {
+    /**
+     * FILM.TITLE LIKE '%keyword%' (인덱스 사용 불가, 기존 동작)
+     */
+    CONTAINS,
+    /**
+     * film_text 의 FULLTEXT 인덱스를 이용한 MATCH ... AGAINST (... IN NATURAL LANGUAGE MODE)
+     */
+    NATURAL_LANGUAGE,
+    /**
+     * film_text 의 FULLTEXT 인덱스를 이용한 MATCH ... AGAINST (... IN BOOLEAN MODE), 검색어에 +, -, * 등의 연산자를 사용할 수 있다.
+     */
+    BOOLEAN;
+
+    public boolean isFullText() {
+        return this != CONTAINS;
+    }
+}
@@ -1,19 +1,107 @@
 package com.example.jooqpractice.film;
 
+import com.example.jooqpractice.rental.ParallelRentalAggregator;
+import com.example.jooqpractice.rental.RentalDurationTotal;
+import com.example.jooqpractice.rental.ShardedRentalRepository;
+import com.example.jooqpractice.tables.pojos.Film;
+import com.example.jooqpractice.utils.concurrent.BatchLoader;
+import com.example.jooqpractice.web.FilmWithActorCursorPagedResponse;
 import com.example.jooqpractice.web.FilmWithActorPagedResponse;
+import com.example.jooqpractice.web.FilmWithActorPagedResponse.FilmActorResponse;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
 
 @Service
 @RequiredArgsConstructor
 public class FilmService {
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte NEW_LINE = '\n';
+
     private final FilmRepository filmRepository;
 
+    private final BatchLoader<Long, Film> filmBatchLoader;
+
+    private final ShardedRentalRepository shardedRentalRepository;
+
+    private final ParallelRentalAggregator parallelRentalAggregator;
+
+    private final JsonMapper jsonMapper;
+
     public FilmWithActorPagedResponse getFilmActorPageResponse(Pageable pageable) {
         List<FilmWithActor> filmWithActorList = filmRepository.findFilmWithActorList(pageable);
 
         return FilmWithActorPagedResponse.of(pageable, filmWithActorList);
     }
+
+    /**
+     * filmIds 순서대로 반환하며, 존재하지 않는 id 는 제외한다.
+     * 동시에 들어온 다른 요청의 id 와 함께 IN 쿼리 한 번으로 조회한다.
+     */
+    public List<Film> getFilms(List<Long> filmIds) {
+        return filmBatchLoader.loadAll(filmIds).stream()
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    public FilmWithActorCursorPagedResponse getFilmActorCursorPageResponse(String cursor, int pageSize) {
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회한다.
+        List<FilmWithActor> filmWithActorList = filmRepository.findFilmWithActorListAfter(
+            FilmWithActorCursor.decode(cursor), pageSize + 1);
+
+        boolean hasNext = filmWithActorList.size() > pageSize;
+        List<FilmWithActor> page = hasNext ? filmWithActorList.subList(0, pageSize) : filmWithActorList;
+
+        return FilmWithActorCursorPagedResponse.of(pageSize, page, hasNext);
+    }
+
+    /**
+     * rental 이 store_id 로 샤딩된 경우, 샤드마다 film 별 대여 기간 합계/건수를 동시에 집계하고 합친 평균으로 정렬한다.
+     */
+    public List<FilmRentalSummary> getFilmRentalSummaryAcrossShards(String filmTitle, FilmSearchMode searchMode) {
+        return filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration(filmTitle, searchMode,
+            averageRentalDurations(shardedRentalRepository.sumRentalDurationByFilm()));
+    }
+
+    /**
+     * rental 을 rental_id 구간으로 나누어 동시에 집계하고 합친 평균으로 정렬한다.
+     */
+    public List<FilmRentalSummary> getFilmRentalSummaryByParallelChunks(String filmTitle, FilmSearchMode searchMode) {
+        return filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration(filmTitle, searchMode,
+            averageRentalDurations(parallelRentalAggregator.sumRentalDurationByFilm()));
+    }
+
+    private static Map<Long, Double> averageRentalDurations(Map<Long, RentalDurationTotal> totals) {
+        return totals.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().averageRentalDuration()));
+    }
+
+    /**
+     * 영화-배우 목록 전체를 NDJSON (한 줄에 FilmActorResponse 하나) 으로 출력한다.
+     * DB 커서에서 한 행씩 읽어 바로 쓰므로 카탈로그 크기와 관계없이 힙 사용량이 일정하다.
+     */
+    public void exportFilmActors(OutputStream outputStream) throws IOException {
+        OutputStream bufferedOutputStream = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+
+        try (Stream<FilmWithActor> filmWithActorStream = filmRepository.streamFilmWithActorList()) {
+            Iterator<FilmWithActor> iterator = filmWithActorStream.iterator();
+            while (iterator.hasNext()) {
+                bufferedOutputStream.write(jsonMapper.writeValueAsBytes(FilmActorResponse.from(iterator.next())));
+                bufferedOutputStream.write(NEW_LINE);
+            }
+        }
+
+        bufferedOutputStream.flush();
+    }
 }
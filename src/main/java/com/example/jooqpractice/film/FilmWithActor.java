@@ -1,9 +1,11 @@
 package com.example.jooqpractice.film;
 
+import com.example.jooq.custom.mapper.GenerateRecordMapper;
 import com.example.jooqpractice.tables.pojos.Actor;
 import com.example.jooqpractice.tables.pojos.Film;
 import com.example.jooqpractice.tables.pojos.FilmActor;
 
+@GenerateRecordMapper
 public record FilmWithActor(
     Film film,
     FilmActor filmActor,
@@ -19,6 +21,11 @@ public record FilmWithActor(
     }
 
     public String getActorFullName() {
+        // 출연 배우가 없는 영화는 LEFT JOIN 결과 actor 가 비어있다.
+        if (actor == null || actor.getActorId() == null) {
+            return null;
+        }
+
         return actor.getFirstName() + " " + actor.getLastName();
     }
 }
@@ -0,0 +1,53 @@
+package com.example.jooqpractice.film;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * (film_id, actor_id) 기준 Keyset 페이지네이션 커서.
+ * 클라이언트에는 {@link #encode()} 로 만든 불투명(opaque) 토큰만 노출한다.
+ */
+public record FilmWithActorCursor(
+    Long filmId,
+    Long actorId
+) {
+    private static final String DELIMITER = ":";
+
+    public FilmWithActorCursor {
+        if (filmId == null) {
+            throw new IllegalArgumentException("filmId must not be null");
+        }
+    }
+
+    public static FilmWithActorCursor from(FilmWithActor filmWithActor) {
+        Long actorId = filmWithActor.actor() == null ? null : filmWithActor.actor().getActorId();
+        return new FilmWithActorCursor(filmWithActor.getFilmId(), actorId);
+    }
+
+    /**
+     * @throws InvalidCursorException 토큰이 {@link #encode()} 로 만든 형식이 아닌 경우
+     */
+    public static FilmWithActorCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, -1);
+
+            Long filmId = Long.valueOf(parts[0]);
+            Long actorId = parts.length > 1 && !parts[1].isEmpty() ? Long.valueOf(parts[1]) : null;
+
+            return new FilmWithActorCursor(filmId, actorId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = filmId + DELIMITER + (actorId == null ? "" : actorId);
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
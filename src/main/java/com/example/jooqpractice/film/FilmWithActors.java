@@ -0,0 +1,25 @@
+package com.example.jooqpractice.film;
+
+import com.example.jooqpractice.tables.pojos.Actor;
+import com.example.jooqpractice.tables.pojos.Film;
+import java.util.List;
+
+public record FilmWithActors(
+    Film film,
+    List<Actor> actors
+) {
+
+    public Long getFilmId() {
+        return film.getFilmId();
+    }
+
+    public String getFilmTitle() {
+        return film.getTitle();
+    }
+
+    public List<String> getActorFullNames() {
+        return actors.stream()
+            .map(actor -> actor.getFirstName() + " " + actor.getLastName())
+            .toList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.jooqpractice.film;
+
+/**
+ * 클라이언트가 보낸 페이지네이션 커서 토큰을 해석할 수 없는 경우.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String token, Throwable cause) {
+        super("Invalid cursor: " + token, cause);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.jooqpractice.film;
+
+/**
+ * FilmPriceSummary.inventoryCount 를 어떻게 구할지.
+ */
+public enum InventoryCountSource {
+    /**
+     * 영화 1건마다 inventory 를 count 하는 상관 서브쿼리
+     */
+    CORRELATED_SUBQUERY,
+
+    /**
+     * film_id 별로 한 번에 집계한 inventory 를 left join
+     */
+    GROUPED_JOIN,
+
+    /**
+     * {@link FilmInventoryCountIndex} (cold 상태면 GROUPED_JOIN 으로 대체한다)
+     */
+    IN_MEMORY_INDEX
+}
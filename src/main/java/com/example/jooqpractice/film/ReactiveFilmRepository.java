@@ -0,0 +1,61 @@
+package com.example.jooqpractice.film;
+
+import com.example.jooqpractice.tables.pojos.Film;
+import io.r2dbc.spi.ConnectionFactory;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListenerProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * FilmRepository 와 같은 jOOQ 쿼리를 R2DBC 로 실행한다.
+ * 결과를 기다리는 동안 스레드를 점유하지 않으므로, 느린 클라이언트가 많은 스트리밍 응답에 사용한다.
+ */
+@Repository
+public class ReactiveFilmRepository {
+
+    private final DSLContext dslContext;
+
+    public ReactiveFilmRepository(Configuration configuration, ConnectionFactory connectionFactory) {
+        // dialect, settings, RecordMapperProvider 는 JDBC 설정을 그대로 사용하고 연결만 R2DBC 로 바꾼다.
+        // ExecuteListener 는 ThreadLocal 로 실행 단계를 추적하므로 (스레드가 바뀌는) R2DBC 실행에서는 제외한다.
+        this.dslContext = configuration
+            .derive(connectionFactory)
+            .derive(new ExecuteListenerProvider[0])
+            .dsl();
+    }
+
+    public Mono<Film> findById(Long id) {
+        return Mono.from(FilmRepository.selectFilmById(dslContext, id))
+            .map(record -> record.into(Film.class));
+    }
+
+    public Flux<FilmWithActor> findFilmWithActorList(Pageable pageable) {
+        return Flux.from(FilmRepository.selectFilmWithActorList(dslContext, pageable))
+            .map(record -> record.into(FilmWithActor.class));
+    }
+
+    /**
+     * 구독자가 요청한 만큼만 prefetch 건 단위로 DB 에서 가져오므로, 느린 구독자가 있어도 결과를 메모리에 쌓지 않는다.
+     */
+    public Flux<FilmWithActor> streamFilmWithActorList(int prefetch) {
+        return Flux.from(FilmRepository.selectAllFilmWithActorList(dslContext))
+            .limitRate(prefetch)
+            .map(record -> record.into(FilmWithActor.class));
+    }
+
+    public Flux<FilmPriceSummary> findFilmPriceSummaryByFilmTitle(String filmTitle, FilmSearchMode searchMode) {
+        return Flux.from(FilmRepository.selectFilmPriceSummary(
+                dslContext, filmTitle, searchMode, FilmRepository.correlatedInventoryCount()))
+            .map(record -> record.into(FilmPriceSummary.class));
+    }
+
+    public Flux<FilmRentalSummary> findFilmRentalSummaryByFilmTitleOrderByRentalDuration(
+        String filmTitle, FilmSearchMode searchMode) {
+        return Flux.from(FilmRepository.selectFilmRentalSummary(dslContext, filmTitle, searchMode))
+            .map(record -> record.into(FilmRentalSummary.class));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.jooqpractice.film;
+
+/**
+ * 대여 이력이 있는 영화를 어떻게 걸러낼지.
+ */
+public enum RentedFilmFilter {
+    /**
+     * 영화마다 inventory, rental 을 확인하는 상관 EXISTS
+     */
+    EXISTS_SUBQUERY,
+
+    /**
+     * film_id IN (대여된 inventory 의 film_id) (GROUP BY 없는 서브쿼리이므로 MySQL 은 semi-join 으로 실행한다)
+     */
+    SEMI_JOIN,
+
+    /**
+     * {@link RentedFilmIndex} 의 비트셋으로 메모리에서 확인한다 (cold 상태면 SEMI_JOIN 으로 대체한다)
+     */
+    BITMAP
+}
@@ -0,0 +1,67 @@
+package com.example.jooqpractice.film;
+
+import java.util.BitSet;
+import java.util.Collection;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대여된 적이 있는 film_id 의 비트셋.
+ * <p>
+ * 대여 이력은 늘어나기만 하므로, 새 대여는 {@link #add(Long)} 로 비트를 추가하고
+ * 재집계 도중 추가된 비트는 재집계 결과에 합친다.
+ * 조회 측은 잠금 없이 읽을 수 있도록 변경할 때마다 새 비트셋으로 교체한다 (film 수 만큼의 비트이므로 복사 비용이 작다).
+ */
+@Component
+public class RentedFilmIndex {
+    private volatile BitSet rentedFilmIds;
+
+    private BitSet addedDuringRebuild;
+
+    public boolean isWarm() {
+        return rentedFilmIds != null;
+    }
+
+    /**
+     * warm 상태에서만 의미가 있다.
+     */
+    public boolean isRented(Long filmId) {
+        BitSet current = rentedFilmIds;
+        return current != null && filmId != null && current.get(Math.toIntExact(filmId));
+    }
+
+    public synchronized void add(Long filmId) {
+        int index = Math.toIntExact(filmId);
+
+        if (addedDuringRebuild != null) {
+            addedDuringRebuild.set(index);
+        }
+
+        BitSet current = rentedFilmIds;
+        if (current == null || current.get(index)) {
+            return;
+        }
+
+        BitSet next = (BitSet) current.clone();
+        next.set(index);
+        rentedFilmIds = next;
+    }
+
+    /**
+     * 재집계 쿼리를 실행하기 전에 호출한다.
+     */
+    public synchronized void beginRebuild() {
+        addedDuringRebuild = new BitSet();
+    }
+
+    public synchronized void completeRebuild(Collection<Long> filmIds) {
+        BitSet next = new BitSet();
+        filmIds.forEach(filmId -> next.set(Math.toIntExact(filmId)));
+
+        if (addedDuringRebuild != null) {
+            next.or(addedDuringRebuild);
+            addedDuringRebuild = null;
+        }
+
+        rentedFilmIds = next;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.jooqpractice.film;
+
+import com.example.jooqpractice.config.datasource.ReplicaRoutingContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link RentedFilmIndex} 를 기동 시점에 채우고, RentalService 를 거치지 않은 변경(대여 삭제 등)을 주기적으로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RentedFilmIndexReconciler {
+    private final FilmRepository filmRepository;
+
+    private final RentedFilmIndex rentedFilmIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${jooq.rented-film-index.reconcile-interval:10m}",
+        initialDelayString = "${jooq.rented-film-index.reconcile-interval:10m}")
+    public void reconcile() {
+        rentedFilmIndex.beginRebuild();
+        rentedFilmIndex.completeRebuild(ReplicaRoutingContext.onPrimary(filmRepository::findRentedFilmIds));
+    }
+}
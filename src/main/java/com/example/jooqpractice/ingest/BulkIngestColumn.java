@@ -0,0 +1,14 @@
+package com.example.jooqpractice.ingest;
+
+import java.util.function.Function;
+import org.jooq.Field;
+
+/**
+ * 적재할 컬럼과, row 에서 그 컬럼 값을 꺼내는 accessor.
+ */
+public record BulkIngestColumn<T>(
+    Field<?> field,
+    Function<? super T, ?> accessor
+) {
+
+}
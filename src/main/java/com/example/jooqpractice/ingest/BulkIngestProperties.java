@@ -0,0 +1,24 @@
+package com.example.jooqpractice.ingest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@link BulkIngestService} 전용 커넥션 풀 설정. url, username, password 가 없으면 spring.datasource 의 값을 사용한다.
+ * <p>
+ * MySQL 은 LOAD DATA LOCAL 을 이 풀에서만 허용한다. allowLoadLocalInfile 은 켜지 않고 allowLoadLocalInfileInPath 만
+ * 비어 있는 전용 디렉터리로 지정하므로, 드라이버는 메모리 스트림과 그 디렉터리 안의 파일만 서버로 보낸다.
+ *
+ * @param maximumPoolSize   동시에 적재할 수 있는 최대 커넥션 수
+ * @param localInfilePath   LOAD DATA LOCAL 로 읽을 수 있는 디렉터리 (없으면 임시 디렉터리를 만들어 사용하고 종료 시 삭제)
+ */
+@ConfigurationProperties("jooq.bulk-ingest")
+public record BulkIngestProperties(
+    String url,
+    String username,
+    String password,
+    @DefaultValue("2") int maximumPoolSize,
+    String localInfilePath
+) {
+
+}
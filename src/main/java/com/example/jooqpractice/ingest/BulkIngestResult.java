@@ -0,0 +1,18 @@
+package com.example.jooqpractice.ingest;
+
+import java.time.Duration;
+
+public record BulkIngestResult(
+    String table,
+    long rows,
+    Duration elapsed
+) {
+
+    public double rowsPerSecond() {
+        if (elapsed.isZero()) {
+            return rows;
+        }
+
+        return rows * 1_000_000_000.0 / elapsed.toNanos();
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.jooqpractice.ingest;
+
+import com.example.jooqpractice.actor.ActorRepository;
+import com.example.jooqpractice.cache.EntityCache;
+import com.example.jooqpractice.cache.QueryResultCache;
+import com.example.jooqpractice.film.RentedFilmIndexReconciler;
+import com.example.jooqpractice.rental.FilmRentalStatsRebuildJob;
+import com.example.jooqpractice.tables.JActor;
+import com.example.jooqpractice.tables.JFilm;
+import com.example.jooqpractice.tables.JRental;
+import com.example.jooqpractice.tables.pojos.Actor;
+import com.example.jooqpractice.tables.pojos.Film;
+import com.example.jooqpractice.tables.pojos.Rental;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.EnumType;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DataSourceConnectionProvider;
+import org.postgresql.PGConnection;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.stereotype.Service;
+
+/**
+ * POJO 를 메모리 버퍼에 CSV 로 직렬화한 뒤 DB 의 bulk loader 로 적재한다.
+ * <ul>
+ *     <li>MySQL: LOAD DATA LOCAL INFILE (서버에 local_infile=ON 필요, 클라이언트 설정은 {@link BulkIngestProperties} 참고)</li>
+ *     <li>PostgreSQL: COPY ... FROM STDIN (CopyManager)</li>
+ * </ul>
+ * 한 번에 chunkRows 건씩 버퍼에 담아 적재하므로 전체 입력을 메모리에 올리지 않는다.
+ * <p>
+ * 공용 커넥션 풀에서 LOAD DATA LOCAL 을 허용하지 않도록 전용 커넥션 풀을 사용하므로,
+ * 호출 측의 Spring 트랜잭션에 참여하지 않고 chunk 마다 커밋된다.
+ * <p>
+ * LOAD DATA / COPY 는 jOOQ listener 를 거치지 않으므로, chunk 가 커밋될 때마다 적재한 테이블의 엔티티 캐시, 조회 결과 캐시,
+ * 배우 이름 인덱스를 직접 무효화한다. rental 을 적재하면 대여 중인 film 인덱스와 film_rental_stats 도 적재가 끝난 뒤 다시 구성한다.
+ */
+@Slf4j
+@Service
+public class BulkIngestService {
+    public static final int DEFAULT_CHUNK_ROWS = 50_000;
+
+    private static final JActor ACTOR = JActor.ACTOR;
+
+    private static final JFilm FILM = JFilm.FILM;
+
+    private static final JRental RENTAL = JRental.RENTAL;
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String MYSQL_NULL = "NULL";
+
+    private static final String POSTGRES_NULL = "";
+
+    private static final List<BulkIngestColumn<Actor>> ACTOR_COLUMNS = List.of(
+        new BulkIngestColumn<>(ACTOR.FIRST_NAME, Actor::getFirstName),
+        new BulkIngestColumn<>(ACTOR.LAST_NAME, Actor::getLastName));
+
+    private static final List<BulkIngestColumn<Film>> FILM_COLUMNS = List.of(
+        new BulkIngestColumn<>(FILM.TITLE, Film::getTitle),
+        new BulkIngestColumn<>(FILM.DESCRIPTION, Film::getDescription),
+        new BulkIngestColumn<>(FILM.RELEASE_YEAR, Film::getReleaseYear),
+        new BulkIngestColumn<>(FILM.LANGUAGE_ID, Film::getLanguageId),
+        new BulkIngestColumn<>(FILM.ORIGINAL_LANGUAGE_ID, Film::getOriginalLanguageId),
+        new BulkIngestColumn<>(FILM.RENTAL_DURATION, Film::getRentalDuration),
+        new BulkIngestColumn<>(FILM.RENTAL_RATE, Film::getRentalRate),
+        new BulkIngestColumn<>(FILM.LENGTH, Film::getLength),
+        new BulkIngestColumn<>(FILM.REPLACEMENT_COST, Film::getReplacementCost),
+        new BulkIngestColumn<>(FILM.RATING, Film::getRating),
+        new BulkIngestColumn<>(FILM.SPECIAL_FEATURES, Film::getSpecialFeatures));
+
+    private static final List<BulkIngestColumn<Rental>> RENTAL_COLUMNS = List.of(
+        new BulkIngestColumn<>(RENTAL.RENTAL_DATE, Rental::getRentalDate),
+        new BulkIngestColumn<>(RENTAL.INVENTORY_ID, Rental::getInventoryId),
+        new BulkIngestColumn<>(RENTAL.CUSTOMER_ID, Rental::getCustomerId),
+        new BulkIngestColumn<>(RENTAL.RETURN_DATE, Rental::getReturnDate),
+        new BulkIngestColumn<>(RENTAL.STAFF_ID, Rental::getStaffId));
+
+    private final DSLContext dslContext;
+
+    private final HikariDataSource dataSource;
+
+    // localInfilePath 를 설정하지 않아 직접 만든 임시 디렉터리. 종료 시 삭제한다.
+    private final Path temporaryLocalInfilePath;
+
+    private final EntityCache entityCache;
+
+    private final QueryResultCache queryResultCache;
+
+    private final ActorRepository actorRepository;
+
+    private final RentedFilmIndexReconciler rentedFilmIndexReconciler;
+
+    private final FilmRentalStatsRebuildJob filmRentalStatsRebuildJob;
+
+    public BulkIngestService(DSLContext dslContext, DataSourceProperties dataSourceProperties,
+        BulkIngestProperties bulkIngestProperties, EntityCache entityCache, QueryResultCache queryResultCache,
+        ActorRepository actorRepository, RentedFilmIndexReconciler rentedFilmIndexReconciler,
+        FilmRentalStatsRebuildJob filmRentalStatsRebuildJob) {
+        SQLDialect dialect = dslContext.dialect().family();
+        this.temporaryLocalInfilePath = dialect == SQLDialect.MYSQL && bulkIngestProperties.localInfilePath() == null
+            ? createTemporaryLocalInfilePath() : null;
+        this.dataSource = ingestDataSource(dataSourceProperties, bulkIngestProperties, dialect,
+            temporaryLocalInfilePath != null ? temporaryLocalInfilePath.toString() : bulkIngestProperties.localInfilePath());
+        this.dslContext = dslContext.configuration().derive(new DataSourceConnectionProvider(dataSource)).dsl();
+        this.entityCache = entityCache;
+        this.queryResultCache = queryResultCache;
+        this.actorRepository = actorRepository;
+        this.rentedFilmIndexReconciler = rentedFilmIndexReconciler;
+        this.filmRentalStatsRebuildJob = filmRentalStatsRebuildJob;
+    }
+
+    public BulkIngestResult ingestActors(Collection<Actor> actors) {
+        return ingest(ACTOR, actors.iterator(), DEFAULT_CHUNK_ROWS, ACTOR_COLUMNS);
+    }
+
+    public BulkIngestResult ingestFilms(Collection<Film> films) {
+        return ingest(FILM, films.iterator(), DEFAULT_CHUNK_ROWS, FILM_COLUMNS);
+    }
+
+    public BulkIngestResult ingestRentals(Collection<Rental> rentals) {
+        return ingest(RENTAL, rentals.iterator(), DEFAULT_CHUNK_ROWS, RENTAL_COLUMNS);
+    }
+
+    public <T> BulkIngestResult ingest(
+        Table<?> table, Iterator<? extends T> rows, int chunkRows, List<BulkIngestColumn<T>> columns) {
+        if (chunkRows < 1) {
+            throw new IllegalArgumentException("chunkRows must be positive: " + chunkRows);
+        }
+
+        SQLDialect dialect = dslContext.dialect().family();
+        long startNanos = System.nanoTime();
+        long loaded = 0L;
+
+        while (rows.hasNext()) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            int chunk = 0;
+
+            while (rows.hasNext() && chunk < chunkRows) {
+                writeCsvLine(buffer, dialect, rows.next(), columns);
+                chunk++;
+            }
+
+            byte[] csv = buffer.toByteArray();
+            loaded += dslContext.connectionResult(connection -> load(connection, dialect, table, columns, csv));
+            afterChunkCommitted(table);
+        }
+
+        if (loaded > 0L) {
+            afterIngested(table);
+        }
+
+        BulkIngestResult result = new BulkIngestResult(table.getName(), loaded, Duration.ofNanos(System.nanoTime() - startNanos));
+        log.info("Bulk ingest 완료: table={}, rows={}, elapsed={}ms, throughput={} rows/s",
+            result.table(), result.rows(), result.elapsed().toMillis(), Math.round(result.rowsPerSecond()));
+
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dataSource.close();
+
+        if (temporaryLocalInfilePath != null) {
+            try {
+                Files.deleteIfExists(temporaryLocalInfilePath);
+            } catch (IOException e) {
+                log.warn("Bulk ingest 임시 디렉터리를 삭제하지 못했습니다: {}", temporaryLocalInfilePath, e);
+            }
+        }
+    }
+
+    private void afterChunkCommitted(Table<?> table) {
+        entityCache.invalidateAll(table.getName());
+        queryResultCache.invalidateTable(table.getName());
+
+        if (table.equals(ACTOR)) {
+            actorRepository.invalidateActorNameIndex();
+        }
+    }
+
+    private void afterIngested(Table<?> table) {
+        if (table.equals(RENTAL)) {
+            rentedFilmIndexReconciler.reconcile();
+            filmRentalStatsRebuildJob.rebuild();
+        }
+    }
+
+    private long load(Connection connection, SQLDialect dialect, Table<?> table, List<? extends BulkIngestColumn<?>> columns,
+        byte[] csv) throws Exception {
+        String columnNames = columns.stream()
+            .map(column -> column.field().getName())
+            .collect(Collectors.joining(", ", "(", ")"));
+
+        return switch (dialect) {
+            case MYSQL -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(new ByteArrayInputStream(csv));
+                    yield statement.executeLargeUpdate(
+                        "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + table.getName()
+                            + " CHARACTER SET utf8mb4"
+                            + " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY ''"
+                            + " LINES TERMINATED BY '\\n' " + columnNames);
+                }
+            }
+            case POSTGRES -> connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                "COPY " + table.getName() + " " + columnNames + " FROM STDIN WITH (FORMAT csv)",
+                new ByteArrayInputStream(csv));
+            default -> throw new UnsupportedOperationException("Bulk ingest is not supported for dialect: " + dialect);
+        };
+    }
+
+    private <T> void writeCsvLine(ByteArrayOutputStream buffer, SQLDialect dialect, T row,
+        List<BulkIngestColumn<T>> columns) {
+        StringBuilder line = new StringBuilder();
+
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+
+            BulkIngestColumn<T> column = columns.get(i);
+            Object value = column.accessor().apply(row);
+
+            if (value == null) {
+                line.append(dialect == SQLDialect.POSTGRES ? POSTGRES_NULL : MYSQL_NULL);
+                continue;
+            }
+
+            String text = toText(value);
+            if (dialect == SQLDialect.POSTGRES && column.field().equals(FILM.SPECIAL_FEATURES)) {
+                // MySQL 의 SET('a','b') 은 PostgreSQL sakila 에서 text[] 이다.
+                text = "{" + text + "}";
+            }
+
+            line.append('"').append(text.replace("\"", "\"\"")).append('"');
+        }
+
+        buffer.writeBytes(line.append('\n').toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String toText(Object value) {
+        if (value instanceof EnumType enumType) {
+            return enumType.getLiteral();
+        }
+
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+
+        if (value instanceof LocalDateTime localDateTime) {
+            // LocalDateTime.toString() 은 초가 0 이면 생략하므로 형식을 고정한다.
+            return DATE_TIME_FORMATTER.format(localDateTime);
+        }
+
+        return value.toString();
+    }
+
+    private static HikariDataSource ingestDataSource(DataSourceProperties dataSourceProperties,
+        BulkIngestProperties bulkIngestProperties, SQLDialect dialect, String localInfilePath) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("bulk-ingest");
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(bulkIngestProperties.url() != null
+            ? bulkIngestProperties.url() : dataSourceProperties.determineUrl());
+        dataSource.setUsername(bulkIngestProperties.username() != null
+            ? bulkIngestProperties.username() : dataSourceProperties.determineUsername());
+        dataSource.setPassword(bulkIngestProperties.password() != null
+            ? bulkIngestProperties.password() : dataSourceProperties.determinePassword());
+        dataSource.setMaximumPoolSize(bulkIngestProperties.maximumPoolSize());
+
+        if (dialect == SQLDialect.MYSQL) {
+            // 임의의 클라이언트 파일을 읽지 않도록 경로 제한만 두고, 실제 데이터는 setLocalInfileInputStream 으로 보낸다.
+            dataSource.addDataSourceProperty("allowLoadLocalInfile", "false");
+            dataSource.addDataSourceProperty("allowLoadLocalInfileInPath", localInfilePath);
+        }
+        return dataSource;
+    }
+
+    private static Path createTemporaryLocalInfilePath() {
+        try {
+            return Files.createTempDirectory("bulk-ingest");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
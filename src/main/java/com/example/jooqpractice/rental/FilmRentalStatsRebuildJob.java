@@ -0,0 +1,32 @@
+package com.example.jooqpractice.rental;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FilmRentalStatsRebuildJob {
+    private final FilmRentalStatsRepository filmRentalStatsRepository;
+
+    /**
+     * 마이그레이션 직후에는 테이블이 비어 있으므로 기동 시점에 한 번 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (filmRentalStatsRepository.isEmpty()) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${jooq.film-rental-stats.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        long startNanos = System.nanoTime();
+        int films = filmRentalStatsRepository.rebuild();
+        log.info("film_rental_stats 재집계 완료: films={}, elapsed={}ms", films, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.jooqpractice.rental;
+
+import com.example.jooqpractice.config.datasource.ReplicaRead;
+import com.example.jooqpractice.tables.JFilmRentalStats;
+import com.example.jooqpractice.tables.JInventory;
+import com.example.jooqpractice.tables.JRental;
+import com.example.jooqpractice.tables.pojos.FilmRentalStats;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.DatePart;
+import org.jooq.Field;
+import org.jooq.Record2;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * film 별 반납된 대여 기간 합계/건수 (film_rental_stats) 를 관리한다.
+ * 평균은 테이블의 generated column (average_rental_duration) 으로 계산된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FilmRentalStatsRepository {
+    private static final JFilmRentalStats FILM_RENTAL_STATS = JFilmRentalStats.FILM_RENTAL_STATS;
+
+    private static final JRental RENTAL = JRental.RENTAL;
+
+    private static final JInventory INVENTORY = JInventory.INVENTORY;
+
+    private final DSLContext dslContext;
+
+    @ReplicaRead
+    public Optional<FilmRentalStats> findByFilmId(Long filmId) {
+        return dslContext.selectFrom(FILM_RENTAL_STATS)
+            .where(FILM_RENTAL_STATS.FILM_ID.eq(filmId))
+            .fetchOptionalInto(FilmRentalStats.class);
+    }
+
+    public boolean isEmpty() {
+        return !dslContext.fetchExists(FILM_RENTAL_STATS);
+    }
+
+    /**
+     * 반납된 대여 1건의 대여 기간을 해당 film 의 합계/건수에 더한다.
+     * 반납 처리와 같은 트랜잭션에서 호출해야 한다.
+     */
+    public void addReturnedRental(Integer rentalId) {
+        Record2<Long, Integer> returnedRental = dslContext
+            .select(INVENTORY.FILM_ID, rentalDuration())
+            .from(RENTAL)
+            .join(INVENTORY).on(RENTAL.INVENTORY_ID.eq(INVENTORY.INVENTORY_ID))
+            .where(
+                RENTAL.RENTAL_ID.eq(rentalId),
+                RENTAL.RETURN_DATE.isNotNull()
+            ).fetchOne();
+
+        if (returnedRental == null) {
+            return;
+        }
+
+        long rentalDuration = returnedRental.value2();
+
+        dslContext.insertInto(FILM_RENTAL_STATS,
+                FILM_RENTAL_STATS.FILM_ID,
+                FILM_RENTAL_STATS.RENTAL_DURATION_SUM,
+                FILM_RENTAL_STATS.RENTAL_COUNT)
+            .values(returnedRental.value1(), rentalDuration, 1L)
+            .onDuplicateKeyUpdate()
+            .set(FILM_RENTAL_STATS.RENTAL_DURATION_SUM, FILM_RENTAL_STATS.RENTAL_DURATION_SUM.plus(rentalDuration))
+            .set(FILM_RENTAL_STATS.RENTAL_COUNT, FILM_RENTAL_STATS.RENTAL_COUNT.plus(1L))
+            .execute();
+    }
+
+    /**
+     * rental 전체를 다시 집계한다. 증분 갱신을 거치지 않은 변경(직접 실행한 SQL 등)을 바로잡는 용도이다.
+     * 하나의 트랜잭션에서 실행되므로, 다른 트랜잭션은 커밋 전까지 이전 통계를 읽는다.
+     *
+     * @return 집계된 film 수
+     */
+    @Transactional
+    public int rebuild() {
+        dslContext.deleteFrom(FILM_RENTAL_STATS)
+            .where(DSL.trueCondition())
+            .execute();
+
+        return dslContext.insertInto(FILM_RENTAL_STATS,
+                FILM_RENTAL_STATS.FILM_ID,
+                FILM_RENTAL_STATS.RENTAL_DURATION_SUM,
+                FILM_RENTAL_STATS.RENTAL_COUNT)
+            .select(DSL
+                .select(
+                    INVENTORY.FILM_ID,
+                    DSL.sum(rentalDuration()).coerce(Long.class),
+                    DSL.count().coerce(Long.class))
+                .from(RENTAL)
+                .join(INVENTORY).on(RENTAL.INVENTORY_ID.eq(INVENTORY.INVENTORY_ID))
+                .where(RENTAL.RETURN_DATE.isNotNull())
+                .groupBy(INVENTORY.FILM_ID))
+            .execute();
+    }
+
+    // FilmRepository 의 derived table 과 같은 방식으로 대여 기간(일)을 계산한다.
+    private static Field<Integer> rentalDuration() {
+        return DSL.localDateTimeDiff(DatePart.DAY, RENTAL.RENTAL_DATE, RENTAL.RETURN_DATE);
+    }
+}
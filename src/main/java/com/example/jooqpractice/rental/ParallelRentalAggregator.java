@@ -0,0 +1,73 @@
+package com.example.jooqpractice.rental;
+
+import com.example.jooqpractice.config.ParallelAggregationProperties;
+import com.example.jooqpractice.utils.concurrent.FanOutScope;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import org.springframework.stereotype.Component;
+
+/**
+ * rental 전체를 한 번에 집계하는 대신 rental_id 구간(chunk-size)으로 나누어 parallelism 개의 커넥션에서 동시에 부분 집계하고,
+ * film 별 (합계, 건수) 를 JVM 에서 합친다.
+ * <p>
+ * 구간마다 다른 커넥션(트랜잭션)에서 읽으므로 집계 도중 반납된 대여는 구간에 따라 포함되지 않을 수 있다.
+ * 같은 시점의 결과가 필요하면 단일 쿼리({@link RentalRepository#sumRentalDurationByFilm()})를 사용한다.
+ */
+@Component
+public class ParallelRentalAggregator {
+    private final RentalRepository rentalRepository;
+
+    private final ParallelAggregationProperties properties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Semaphore connectionPermits;
+
+    public ParallelRentalAggregator(RentalRepository rentalRepository, ParallelAggregationProperties properties) {
+        if (properties.parallelism() < 1 || properties.chunkSize() < 1) {
+            throw new IllegalArgumentException("parallelism and chunkSize must be positive: " + properties);
+        }
+
+        this.rentalRepository = rentalRepository;
+        this.properties = properties;
+        this.connectionPermits = new Semaphore(properties.parallelism());
+    }
+
+    public Map<Long, RentalDurationTotal> sumRentalDurationByFilm() {
+        return rentalRepository.findRentalIdRange()
+            .map(this::sumRentalDurationByFilm)
+            .orElseGet(Map::of);
+    }
+
+    private Map<Long, RentalDurationTotal> sumRentalDurationByFilm(RentalIdRange range) {
+        try (FanOutScope scope = new FanOutScope(executor, connectionPermits, properties.timeout())) {
+            List<Future<Map<Long, RentalDurationTotal>>> partials = new ArrayList<>();
+
+            for (long from = range.minRentalId(); from <= range.maxRentalId(); from += properties.chunkSize()) {
+                int fromRentalId = (int) from;
+                int toRentalId = (int) Math.min(from + properties.chunkSize(), (long) range.maxRentalId() + 1);
+                partials.add(scope.fork(() -> rentalRepository.sumRentalDurationByFilm(fromRentalId, toRentalId)));
+            }
+
+            scope.joinOrThrow("rental aggregation");
+
+            Map<Long, RentalDurationTotal> totals = new HashMap<>();
+            for (Future<Map<Long, RentalDurationTotal>> partial : partials) {
+                partial.resultNow().forEach((filmId, total) -> totals.merge(filmId, total, RentalDurationTotal::plus));
+            }
+            return totals;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+}
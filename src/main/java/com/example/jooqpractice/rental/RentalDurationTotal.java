@@ -0,0 +1,18 @@
+package com.example.jooqpractice.rental;
+
+/**
+ * 반납된 대여 기간(일)의 합계와 건수. 샤드별 부분 집계를 더한 뒤 평균을 구한다.
+ */
+public record RentalDurationTotal(
+    long rentalDurationSum,
+    long rentalCount
+) {
+
+    public RentalDurationTotal plus(RentalDurationTotal other) {
+        return new RentalDurationTotal(rentalDurationSum + other.rentalDurationSum, rentalCount + other.rentalCount);
+    }
+
+    public Double averageRentalDuration() {
+        return rentalCount == 0 ? null : (double) rentalDurationSum / rentalCount;
+    }
+}
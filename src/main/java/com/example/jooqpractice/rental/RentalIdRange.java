@@ -0,0 +1,8 @@
+package com.example.jooqpractice.rental;
+
+public record RentalIdRange(
+    Integer minRentalId,
+    Integer maxRentalId
+) {
+
+}
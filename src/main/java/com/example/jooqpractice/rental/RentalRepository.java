@@ -0,0 +1,98 @@
+package com.example.jooqpractice.rental;
+
+import com.example.jooqpractice.config.datasource.ReplicaRead;
+import com.example.jooqpractice.tables.JInventory;
+import com.example.jooqpractice.tables.JRental;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.DatePart;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class RentalRepository {
+    private static final JRental RENTAL = JRental.RENTAL;
+
+    private static final JInventory INVENTORY = JInventory.INVENTORY;
+
+    private final DSLContext dslContext;
+
+    public Integer save(Long inventoryId, Long customerId, Long staffId, LocalDateTime rentalDate) {
+        return dslContext.insertInto(RENTAL, RENTAL.RENTAL_DATE, RENTAL.INVENTORY_ID, RENTAL.CUSTOMER_ID, RENTAL.STAFF_ID)
+            .values(rentalDate, inventoryId, customerId, staffId)
+            .returningResult(RENTAL.RENTAL_ID)
+            .fetchOneInto(Integer.class);
+    }
+
+    public Long findFilmIdByInventoryId(Long inventoryId) {
+        return dslContext.select(INVENTORY.FILM_ID)
+            .from(INVENTORY)
+            .where(INVENTORY.INVENTORY_ID.eq(inventoryId))
+            .fetchOneInto(Long.class);
+    }
+
+    /**
+     * 아직 반납되지 않은 대여만 반납 처리한다.
+     *
+     * @return 반납 처리되었으면 true, 존재하지 않거나 이미 반납된 대여면 false
+     */
+    public boolean updateReturnDate(Integer rentalId, LocalDateTime returnDate) {
+        return dslContext.update(RENTAL)
+            .set(RENTAL.RETURN_DATE, returnDate)
+            .where(
+                RENTAL.RENTAL_ID.eq(rentalId),
+                RENTAL.RETURN_DATE.isNull()
+            ).execute() == 1;
+    }
+
+    /**
+     * @return rental_id 의 (최솟값, 최댓값), rental 이 비어있으면 empty
+     */
+    @ReplicaRead
+    public Optional<RentalIdRange> findRentalIdRange() {
+        return dslContext.select(DSL.min(RENTAL.RENTAL_ID), DSL.max(RENTAL.RENTAL_ID))
+            .from(RENTAL)
+            .fetchOptional()
+            .filter(range -> range.value1() != null)
+            .map(range -> new RentalIdRange(range.value1(), range.value2()));
+    }
+
+    @ReplicaRead
+    public Map<Long, RentalDurationTotal> sumRentalDurationByFilm() {
+        return sumRentalDurationByFilm(dslContext, DSL.noCondition());
+    }
+
+    /**
+     * rental_id 가 [fromRentalId, toRentalId) 인 대여만 집계한다. (PK 범위 스캔)
+     */
+    @ReplicaRead
+    public Map<Long, RentalDurationTotal> sumRentalDurationByFilm(int fromRentalId, int toRentalId) {
+        return sumRentalDurationByFilm(dslContext, RENTAL.RENTAL_ID.ge(fromRentalId).and(RENTAL.RENTAL_ID.lt(toRentalId)));
+    }
+
+    /**
+     * 반납된 대여 기간(일)의 film 별 합계/건수. 부분 집계 결과를 합칠 수 있도록 평균 대신 합계와 건수를 반환한다.
+     */
+    static Map<Long, RentalDurationTotal> sumRentalDurationByFilm(DSLContext dslContext, Condition condition) {
+        var rentalDurationTotal = DSL.row(
+            DSL.sum(DSL.localDateTimeDiff(DatePart.DAY, RENTAL.RENTAL_DATE, RENTAL.RETURN_DATE)).coerce(Long.class),
+            DSL.count().coerce(Long.class)
+        ).mapping(RentalDurationTotal::new);
+
+        return dslContext
+            .select(INVENTORY.FILM_ID, rentalDurationTotal)
+            .from(RENTAL)
+            .join(INVENTORY).on(RENTAL.INVENTORY_ID.eq(INVENTORY.INVENTORY_ID))
+            .where(
+                RENTAL.RETURN_DATE.isNotNull(),
+                condition
+            )
+            .groupBy(INVENTORY.FILM_ID)
+            .fetchMap(INVENTORY.FILM_ID, rentalDurationTotal);
+    }
+}
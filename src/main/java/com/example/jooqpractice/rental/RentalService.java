@@ -0,0 +1,44 @@
+package com.example.jooqpractice.rental;
+
+import static com.example.jooqpractice.utils.transaction.TransactionCallbackUtil.runAfterCommit;
+
+import com.example.jooqpractice.film.RentedFilmIndex;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class RentalService {
+    private final RentalRepository rentalRepository;
+
+    private final FilmRentalStatsRepository filmRentalStatsRepository;
+
+    private final RentedFilmIndex rentedFilmIndex;
+
+    /**
+     * 대여를 등록하고, 커밋 이후 대여된 영화를 {@link RentedFilmIndex} 에 추가한다.
+     */
+    @Transactional
+    public Integer rent(Long inventoryId, Long customerId, Long staffId, LocalDateTime rentalDate) {
+        Integer rentalId = rentalRepository.save(inventoryId, customerId, staffId, rentalDate);
+        Long filmId = rentalRepository.findFilmIdByInventoryId(inventoryId);
+
+        runAfterCommit(() -> rentedFilmIndex.add(filmId));
+        return rentalId;
+    }
+
+    /**
+     * 반납 처리와 film_rental_stats 증분 갱신을 하나의 트랜잭션으로 실행한다.
+     */
+    @Transactional
+    public boolean returnRental(Integer rentalId, LocalDateTime returnDate) {
+        if (!rentalRepository.updateReturnDate(rentalId, returnDate)) {
+            return false;
+        }
+
+        filmRentalStatsRepository.addReturnedRental(rentalId);
+        return true;
+    }
+}
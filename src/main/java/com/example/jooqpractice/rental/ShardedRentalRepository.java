@@ -0,0 +1,69 @@
+package com.example.jooqpractice.rental;
+
+import static com.example.jooqpractice.utils.jooq.JooqListConditionUtil.inIfNotEmpty;
+
+import com.example.jooqpractice.config.shard.Shard;
+import com.example.jooqpractice.config.shard.ShardedDslContext;
+import com.example.jooqpractice.tables.JInventory;
+import com.example.jooqpractice.tables.JRental;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * store_id 로 나누어 저장된 rental, inventory 를 다룬다.
+ * 쓰기와 단건 조회는 store 의 샤드로 보내고, 집계는 모든 샤드에서 부분 집계한 뒤 합친다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShardedRentalRepository {
+    private static final JRental RENTAL = JRental.RENTAL;
+
+    private static final JInventory INVENTORY = JInventory.INVENTORY;
+
+    private final ShardedDslContext shardedDslContext;
+
+    /**
+     * store 의 샤드에 저장하고 생성된 rental_id 를 반환한다.
+     * rental_id 는 샤드마다 AUTO_INCREMENT 로 생성되므로, 샤드별로 auto_increment_offset 을 달리 설정한 경우에만
+     * (docker/mysql/docker-compose-mysql-shard.yaml 참고) 샤드 간에도 유일하다.
+     */
+    public Integer save(Long storeId, Long inventoryId, Long customerId, Long staffId, LocalDateTime rentalDate) {
+        return shardedDslContext.forStore(storeId)
+            .insertInto(RENTAL, RENTAL.RENTAL_DATE, RENTAL.INVENTORY_ID, RENTAL.CUSTOMER_ID, RENTAL.STAFF_ID)
+            .values(rentalDate, inventoryId, customerId, staffId)
+            .returningResult(RENTAL.RENTAL_ID)
+            .fetchOneInto(Integer.class);
+    }
+
+    public Long findFilmIdByInventoryId(Long storeId, Long inventoryId) {
+        return shardedDslContext.forStore(storeId)
+            .select(INVENTORY.FILM_ID)
+            .from(INVENTORY)
+            .where(INVENTORY.INVENTORY_ID.eq(inventoryId))
+            .fetchOneInto(Long.class);
+    }
+
+    /**
+     * 반납된 대여 기간의 film 별 합계/건수를 샤드마다 동시에 집계하고 합친다.
+     * (평균은 샤드별 평균의 평균이 아니라, 합친 합계/건수로 계산해야 한다)
+     */
+    public Map<Long, RentalDurationTotal> sumRentalDurationByFilm() {
+        Map<Long, RentalDurationTotal> totals = new HashMap<>();
+
+        for (Map<Long, RentalDurationTotal> partialTotals : shardedDslContext.scatter(this::sumRentalDurationByFilmOn)) {
+            partialTotals.forEach((filmId, partialTotal) -> totals.merge(filmId, partialTotal, RentalDurationTotal::plus));
+        }
+
+        return totals;
+    }
+
+    private Map<Long, RentalDurationTotal> sumRentalDurationByFilmOn(Shard shard) {
+        // 샤드에 다른 store 의 데이터가 남아있더라도 (예: 재배치 중) 중복 집계하지 않는다.
+        return RentalRepository.sumRentalDurationByFilm(shard.dslContext(),
+            inIfNotEmpty(INVENTORY.STORE_ID, List.copyOf(shard.storeIds())));
+    }
+}
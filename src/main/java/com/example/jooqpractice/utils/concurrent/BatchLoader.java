@@ -0,0 +1,204 @@
+package com.example.jooqpractice.utils.concurrent;
+
+import static com.example.jooqpractice.utils.transaction.TransactionCallbackUtil.isInWritableTransaction;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 짧은 시간(window) 동안 들어온 개별 조회를 모아 batchFunction 한 번(IN 쿼리 한 번)으로 실행한다. (DataLoader 방식)
+ * <p>
+ * 같은 키는 하나의 future 를 공유하며, batchFunction 결과에 없는 키는 null 로 완료된다.
+ * window 가 지나거나 maxBatchSize 만큼 모이면 가상 스레드에서 batchFunction 을 실행하며,
+ * {@link #loadAll(Collection)} 는 키를 모두 등록한 뒤 window 를 기다리지 않고 바로 실행한다.
+ * <p>
+ * batchFunction 은 호출한 스레드의 트랜잭션 밖에서 실행되므로,
+ * 쓰기 가능한 트랜잭션 안에서는 (커밋되지 않은 값을 읽을 수 있도록) 모으지 않고 호출한 스레드에서 바로 실행한다.
+ */
+public final class BatchLoader<K, V> implements AutoCloseable {
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+
+    private final Duration window;
+
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("batch-loader-scheduler").daemon().factory());
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * guarded by this
+     */
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+
+    /**
+     * guarded by this
+     */
+    private ScheduledFuture<?> scheduledDispatch;
+
+    public BatchLoader(Function<Set<K>, Map<K, V>> batchFunction, Duration window, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+
+        this.batchFunction = batchFunction;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * IN 쿼리로 조회하는 finder 와 값에서 키를 꺼내는 keyMapper 로 BatchLoader 를 만든다.
+     * (예: {@code BatchLoader.of(filmRepository::findByFilmIdIn, Film::getFilmId, window, maxBatchSize)})
+     * <p>
+     * finder 에는 빈 목록을 넘기지 않는다. (빈 목록이면 조건을 생략하는 inIfNotEmpty 로 전체를 조회하지 않도록)
+     */
+    public static <K, V> BatchLoader<K, V> of(
+        Function<List<K>, List<V>> finder, Function<V, K> keyMapper, Duration window, int maxBatchSize) {
+        return new BatchLoader<>(
+            keys -> finder.apply(List.copyOf(keys)).stream()
+                .collect(Collectors.toMap(keyMapper, Function.identity())),
+            window,
+            maxBatchSize);
+    }
+
+    public CompletableFuture<V> load(K key) {
+        requireKey(key);
+
+        if (isInWritableTransaction()) {
+            return loadNow(key);
+        }
+
+        Map<K, CompletableFuture<V>> fullBatch = null;
+        CompletableFuture<V> future;
+
+        synchronized (this) {
+            future = pending.get(key);
+            if (future != null) {
+                return future;
+            }
+
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = drain();
+            } else if (scheduledDispatch == null) {
+                scheduledDispatch = scheduler.schedule(this::dispatch, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            submit(fullBatch);
+        }
+
+        return future;
+    }
+
+    /**
+     * 키 순서대로 결과를 반환한다. (결과가 없는 키는 null)
+     */
+    public List<V> loadAll(Collection<K> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        keys.forEach(BatchLoader::requireKey);
+
+        if (isInWritableTransaction()) {
+            Map<K, V> values = batchFunction.apply(Set.copyOf(keys));
+            return keys.stream().map(values::get).toList();
+        }
+
+        List<CompletableFuture<V>> futures = keys.stream().map(this::load).toList();
+        dispatch();
+
+        List<V> values = new ArrayList<>(futures.size());
+        for (CompletableFuture<V> future : futures) {
+            values.add(join(future));
+        }
+        return values;
+    }
+
+    /**
+     * window 를 기다리지 않고 지금까지 모인 키를 실행한다.
+     */
+    public void dispatch() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+
+        if (!batch.isEmpty()) {
+            submit(batch);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        dispatch();
+        executor.close();
+    }
+
+    private Map<K, CompletableFuture<V>> drain() {
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void submit(Map<K, CompletableFuture<V>> batch) {
+        executor.execute(() -> complete(batch));
+    }
+
+    private CompletableFuture<V> loadNow(K key) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        complete(Map.of(key, future));
+        return future;
+    }
+
+    private void complete(Map<K, CompletableFuture<V>> batch) {
+        try {
+            Map<K, V> values = batchFunction.apply(Set.copyOf(batch.keySet()));
+            batch.forEach((key, future) -> future.complete(values.get(key)));
+        } catch (Throwable e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static void requireKey(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key must not be null");
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.jooqpractice.utils.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * 하나의 deadline 안에서 여러 작업을 동시에 실행하고, 하나라도 실패하거나 deadline 을 넘기면 나머지를 취소한다.
+ * (Java 21 의 StructuredTaskScope.ShutdownOnFailure 는 preview API 이므로 같은 동작을 ExecutorService 로 구현한다.)
+ * <p>
+ * 작업은 실행 전에 permits 를 얻어야 하므로, 여러 요청이 동시에 fan-out 하더라도 커넥션 풀을 모두 점유하지 않는다.
+ * <pre>{@code
+ * try (FanOutScope scope = new FanOutScope(executor, permits, timeout)) {
+ *     Future<A> a = scope.fork(() -> ...);
+ *     Future<B> b = scope.fork(() -> ...);
+ *     scope.joinOrThrow("film detail queries");
+ *     return new Result(a.resultNow(), b.resultNow());
+ * }
+ * }</pre>
+ */
+public final class FanOutScope implements AutoCloseable {
+    private final CompletionService<Object> completionService;
+
+    private final Semaphore permits;
+
+    private final Duration timeout;
+
+    private final long deadlineNanos;
+
+    private final List<Future<Object>> futures = new ArrayList<>();
+
+    public FanOutScope(ExecutorService executor, Semaphore permits, Duration timeout) {
+        this.completionService = new ExecutorCompletionService<>(executor);
+        this.permits = permits;
+        this.timeout = timeout;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Future<T> fork(Callable<T> task) {
+        Future<Object> future = completionService.submit(() -> {
+            if (!permits.tryAcquire(remainingNanos(), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("Timed out waiting for a connection permit");
+            }
+
+            try {
+                return task.call();
+            } finally {
+                permits.release();
+            }
+        });
+
+        futures.add(future);
+        return (Future<T>) future;
+    }
+
+    /**
+     * 모든 작업이 끝날 때까지 기다린다. 먼저 끝난 작업부터 확인하므로 실패는 바로 전파된다.
+     */
+    public void join() throws InterruptedException, ExecutionException, TimeoutException {
+        try {
+            for (int completed = 0; completed < futures.size(); completed++) {
+                Future<Object> future = completionService.poll(remainingNanos(), TimeUnit.NANOSECONDS);
+                if (future == null) {
+                    throw new TimeoutException("Fan-out did not complete before the deadline");
+                }
+
+                future.get();
+            }
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            cancelAll();
+            throw e;
+        }
+    }
+
+    /**
+     * {@link #join()} 과 같지만 checked 예외를 호출하는 쪽에서 다루지 않도록 변환한다.
+     * <ul>
+     *     <li>deadline 초과: {@link QueryTimeoutException}</li>
+     *     <li>작업 실패: 작업이 던진 RuntimeException, Error 를 그대로 던지고, checked 예외는 IllegalStateException 으로 감싼다</li>
+     *     <li>인터럽트: 인터럽트 상태를 복구하고 IllegalStateException 을 던진다</li>
+     * </ul>
+     *
+     * @param what 예외 메시지에 사용할 작업 설명 (예: "film detail queries")
+     */
+    public void joinOrThrow(String what) {
+        try {
+            join();
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Timed out after " + timeout + " waiting for " + what, e);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + what, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    private void cancelAll() {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+
+        if (cause instanceof Error error) {
+            throw error;
+        }
+
+        return new IllegalStateException(cause);
+    }
+
+    private long remainingNanos() {
+        return Math.max(0L, deadlineNanos - System.nanoTime());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.jooqpractice.utils.jooq;
+
+import lombok.NoArgsConstructor;
+import org.jooq.Field;
+import org.jooq.QueryPart;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class JooqFullTextSearchUtil {
+
+    /**
+     * MySQL MATCH (...) AGAINST (... IN NATURAL LANGUAGE MODE) 의 relevance 값.
+     * columns 는 FULLTEXT 인덱스에 정의된 컬럼 목록과 정확히 일치해야 인덱스를 사용한다.
+     */
+    public static Field<Double> matchNaturalLanguage(String keyword, Field<?>... columns) {
+        return match(keyword, "in natural language mode", columns);
+    }
+
+    /**
+     * MySQL MATCH (...) AGAINST (... IN BOOLEAN MODE) 의 relevance 값.
+     */
+    public static Field<Double> matchBoolean(String keyword, Field<?>... columns) {
+        return match(keyword, "in boolean mode", columns);
+    }
+
+    private static Field<Double> match(String keyword, String modifier, Field<?>... columns) {
+        QueryPart columnList = DSL.list(columns);
+        return DSL.field("match({0}) against ({1} " + modifier + ")",
+            SQLDataType.DOUBLE, columnList, DSL.val(keyword));
+    }
+}
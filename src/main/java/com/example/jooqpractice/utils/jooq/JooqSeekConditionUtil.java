@@ -0,0 +1,28 @@
+package com.example.jooqpractice.utils.jooq;
+
+import lombok.NoArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class JooqSeekConditionUtil {
+
+    /**
+     * (first, second) 복합 키 기준으로 커서 이후의 행만 조회하는 조건을 만든다.
+     * ROW 비교 대신 OR 로 풀어서 선두 컬럼의 인덱스 범위 스캔이 가능하도록 한다.
+     * second 값이 null 인 경우 (LEFT JOIN 으로 매칭되는 행이 없는 경우) 해당 first 값의 행은 하나뿐이므로 first 만 비교한다.
+     */
+    public static <A, B> Condition afterIfPresent(Field<A> first, Field<B> second, A firstValue, B secondValue) {
+        if (firstValue == null) {
+            return DSL.noCondition();
+        }
+
+        if (secondValue == null) {
+            return first.gt(firstValue);
+        }
+
+        return first.gt(firstValue)
+            .or(first.eq(firstValue).and(second.gt(secondValue)));
+    }
+}
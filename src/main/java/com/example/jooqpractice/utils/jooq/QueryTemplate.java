@@ -0,0 +1,99 @@
+package com.example.jooqpractice.utils.jooq;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
+
+/**
+ * 매 호출마다 같은 모양의 쿼리를 조립하고 SQL 로 렌더링하는 비용을 없애기 위해,
+ * {@link DSL#param(String, Field)} 로 이름을 붙인 bind 변수를 가진 쿼리를 한 번만 렌더링하여 SQL 문자열을 재사용한다.
+ * <p>
+ * 호출 시에는 캐시된 SQL 과 bind 값만으로 plain SQL 쿼리를 만들고 조회 컬럼 타입으로 coerce 하므로,
+ * 결과 매핑은 원래 쿼리와 같다. SQL 문자열이 항상 같으므로 드라이버의 prepared statement 캐시
+ * (MySQL: cachePrepStmts, useServerPrepStmts) 에서 커넥션마다 한 번만 prepare 된다.
+ * <p>
+ * 호출마다 남는 비용은 plain SQL 을 실행, 렌더링할 때 jOOQ 가 SQL 문자열을 한 번 훑어 {@code ?} 자리에 bind 값을 끼워 넣는 것이다.
+ * 이 비용은 쿼리 조립, 렌더링에 비해 작고 SQL 길이에 비례한다. jOOQ Query 는 bind 값을 바꾸면 객체 자체가 바뀌어 스레드 간에 공유할 수 없으므로,
+ * 파싱된 Query 를 캐시하지 않는다. 비용은 QueryTemplateBenchmark 의 renderPlainSql (문자열 훑기만) 과
+ * renderQueryTemplate (bind 값 구성 포함) 으로 측정한다.
+ * <p>
+ * 이름을 붙이지 않은 bind 값 (예: 상수 조건, LIMIT) 은 처음 만든 쿼리의 값을 그대로 사용한다.
+ * <p>
+ * 렌더링 결과는 dialect, settings 에 따라 다르므로 DSLContext 의 Configuration 마다 따로 보관한다.
+ * (샤드, R2DBC 처럼 derive 한 Configuration 도 각자의 SQL 을 사용한다)
+ * Configuration 은 애플리케이션 수명 동안 유지되는 것만 사용해야 하며, 호출마다 derive 하면 렌더링 결과가 계속 쌓인다.
+ */
+public final class QueryTemplate {
+    private final Select<?> select;
+
+    private final Map<Configuration, Rendered> renderedByConfiguration = new ConcurrentHashMap<>();
+
+    private record Rendered(String sql, Param<?>[] params, int[] namedIndexes, Collection<? extends Field<?>> fields) {
+
+    }
+
+    private QueryTemplate(Select<?> select) {
+        this.select = select;
+    }
+
+    public static QueryTemplate of(Select<?> select) {
+        return new QueryTemplate(select);
+    }
+
+    /**
+     * @param values 이름을 붙인 bind 변수의 값 (쿼리에 나타나는 순서대로)
+     */
+    public ResultQuery<Record> query(DSLContext dslContext, Object... values) {
+        Rendered rendered = render(dslContext);
+
+        if (values.length != rendered.namedIndexes().length) {
+            throw new IllegalArgumentException(
+                "Expected " + rendered.namedIndexes().length + " bind values but got " + values.length);
+        }
+
+        Object[] bindings = rendered.params().clone();
+        for (int i = 0; i < values.length; i++) {
+            int index = rendered.namedIndexes()[i];
+            bindings[index] = DSL.val(values[i], rendered.params()[index].getDataType());
+        }
+
+        return dslContext.resultQuery(rendered.sql(), bindings).coerce(rendered.fields());
+    }
+
+    private Rendered render(DSLContext dslContext) {
+        return renderedByConfiguration.computeIfAbsent(dslContext.configuration(), configuration -> renderWith(dslContext));
+    }
+
+    private Rendered renderWith(DSLContext dslContext) {
+        Map<String, Param<?>> extracted = dslContext.extractParams(select);
+        List<Object> bindValues = dslContext.extractBindValues(select);
+        if (extracted.size() != bindValues.size()) {
+            // 같은 이름의 bind 변수를 여러 번 사용하면 위치별 값을 구분할 수 없다.
+            throw new IllegalArgumentException("Named bind parameters must be used only once: " + extracted.keySet());
+        }
+
+        Param<?>[] params = extracted.values().toArray(Param<?>[]::new);
+        List<Integer> namedIndexes = new ArrayList<>();
+        for (int i = 0; i < params.length; i++) {
+            if (params[i].getParamName() != null) {
+                namedIndexes.add(i);
+            }
+        }
+
+        return new Rendered(
+            dslContext.render(select),
+            params,
+            namedIndexes.stream().mapToInt(Integer::intValue).toArray(),
+            select.getSelect());
+    }
+}
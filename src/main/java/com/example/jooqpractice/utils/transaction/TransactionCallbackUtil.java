@@ -0,0 +1,35 @@
+package com.example.jooqpractice.utils.transaction;
+
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class TransactionCallbackUtil {
+
+    /**
+     * 트랜잭션이 롤백되면 메모리 상태와 DB 가 어긋나므로, 트랜잭션 안에서는 커밋 이후에 실행한다.
+     * 트랜잭션 밖에서는 바로 실행한다.
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 쓰기 가능한 트랜잭션 안에서는 아직 커밋되지 않은 값을 읽을 수 있다.
+     */
+    public static boolean isInWritableTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
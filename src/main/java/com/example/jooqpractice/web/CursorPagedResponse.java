@@ -0,0 +1,15 @@
+package com.example.jooqpractice.web;
+
+public record CursorPagedResponse(
+    String nextCursor,
+    long pageSize,
+    boolean hasNext
+) {
+    public static CursorPagedResponse of(String nextCursor, long pageSize) {
+        return new CursorPagedResponse(
+            nextCursor,
+            pageSize,
+            nextCursor != null
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.jooqpractice.web;
+
+import com.example.jooqpractice.film.FilmService;
+import com.example.jooqpractice.film.InvalidCursorException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequiredArgsConstructor
+public class FilmActorController {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final FilmService filmService;
+
+    @GetMapping("/films/actors")
+    public FilmWithActorCursorPagedResponse getFilmActors(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return filmService.getFilmActorCursorPageResponse(cursor, size);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursor(InvalidCursorException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
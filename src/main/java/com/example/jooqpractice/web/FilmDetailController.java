@@ -0,0 +1,43 @@
+package com.example.jooqpractice.web;
+
+import com.example.jooqpractice.film.FilmDetail;
+import com.example.jooqpractice.film.FilmQueryFacade;
+import com.example.jooqpractice.film.FilmService;
+import com.example.jooqpractice.tables.pojos.Film;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequiredArgsConstructor
+public class FilmDetailController {
+    private static final int MAX_FILM_IDS = 100;
+
+    private final FilmQueryFacade filmQueryFacade;
+
+    private final FilmService filmService;
+
+    @GetMapping(value = "/films", params = "ids")
+    public List<Film> getFilms(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_FILM_IDS || ids.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "ids must contain between 1 and " + MAX_FILM_IDS + " film ids");
+        }
+        return filmService.getFilms(ids);
+    }
+
+    @GetMapping("/films/{filmId}")
+    public ResponseEntity<FilmDetail> getFilmDetail(
+        @PathVariable Long filmId,
+        @RequestParam(defaultValue = "true") boolean parallel) {
+        return ResponseEntity.of(parallel
+            ? filmQueryFacade.getFilmDetail(filmId)
+            : filmQueryFacade.getFilmDetailSequentially(filmId));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.jooqpractice.web;
+
+import com.example.jooqpractice.film.FilmService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+public class FilmExportController {
+    private final FilmService filmService;
+
+    @GetMapping(value = "/films/actors/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportFilmActors() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(filmService::exportFilmActors);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.jooqpractice.web;
+
+import com.example.jooqpractice.film.FilmWithActor;
+import com.example.jooqpractice.film.FilmWithActorCursor;
+import com.example.jooqpractice.web.FilmWithActorPagedResponse.FilmActorResponse;
+import java.util.List;
+
+public record FilmWithActorCursorPagedResponse(
+    CursorPagedResponse page,
+    List<FilmActorResponse> filmActorList
+) {
+
+    public static FilmWithActorCursorPagedResponse of(int pageSize, List<FilmWithActor> filmWithActorList, boolean hasNext) {
+        String nextCursor = hasNext && !filmWithActorList.isEmpty()
+            ? FilmWithActorCursor.from(filmWithActorList.getLast()).encode()
+            : null;
+
+        return new FilmWithActorCursorPagedResponse(
+            CursorPagedResponse.of(nextCursor, pageSize),
+            filmWithActorList.stream()
+                .map(FilmActorResponse::from)
+                .toList()
+        );
+    }
+}
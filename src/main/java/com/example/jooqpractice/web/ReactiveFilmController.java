@@ -0,0 +1,38 @@
+package com.example.jooqpractice.web;
+
+import com.example.jooqpractice.film.ReactiveFilmRepository;
+import com.example.jooqpractice.tables.pojos.Film;
+import com.example.jooqpractice.web.FilmWithActorPagedResponse.FilmActorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+public class ReactiveFilmController {
+    private static final int MAX_PREFETCH = 1_000;
+
+    private final ReactiveFilmRepository reactiveFilmRepository;
+
+    @GetMapping("/reactive/films/{filmId}")
+    public Mono<Film> getFilm(@PathVariable Long filmId) {
+        return reactiveFilmRepository.findById(filmId);
+    }
+
+    @GetMapping(value = "/reactive/films/actors/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<FilmActorResponse> streamFilmActors(@RequestParam(defaultValue = "256") int prefetch) {
+        if (prefetch < 1 || prefetch > MAX_PREFETCH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "prefetch must be between 1 and " + MAX_PREFETCH);
+        }
+        return reactiveFilmRepository.streamFilmWithActorList(prefetch)
+            .map(FilmActorResponse::from);
+    }
+}
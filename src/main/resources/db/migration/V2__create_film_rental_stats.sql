@@ -0,0 +1,19 @@
+--
+-- Table structure for table `film_rental_stats`
+--
+-- film 별 반납된 대여 기간(일) 의 합계와 건수.
+-- rental 전체를 집계하는 대신 반납 시점에 증분으로 갱신하고, 주기적으로 전체 재계산한다.
+--
+
+CREATE TABLE film_rental_stats (
+                                   film_id INT UNSIGNED NOT NULL,
+                                   rental_duration_sum BIGINT NOT NULL DEFAULT 0,
+                                   rental_count INT UNSIGNED NOT NULL DEFAULT 0,
+                                   average_rental_duration DECIMAL(14,4) AS (
+                                       CASE WHEN rental_count = 0 THEN NULL ELSE rental_duration_sum / rental_count END
+                                   ) STORED,
+                                   last_update TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                                   PRIMARY KEY (film_id),
+                                   KEY idx_average_rental_duration (average_rental_duration),
+                                   CONSTRAINT fk_film_rental_stats_film FOREIGN KEY (film_id) REFERENCES film (film_id) ON DELETE CASCADE ON UPDATE CASCADE
+)ENGINE=InnoDB DEFAULT CHARSET=utf8;
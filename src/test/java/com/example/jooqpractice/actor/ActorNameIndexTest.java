@@ -0,0 +1,73 @@
+package com.example.jooqpractice.actor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jooqpractice.actor.ActorNameIndex.ActorName;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ActorNameIndexTest {
+
+    private ActorNameIndex actorNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        actorNameIndex = new ActorNameIndex();
+        actorNameIndex.rebuild(List.of(
+            new ActorName(1L, "PENELOPE", "GUINESS"),
+            new ActorName(2L, "NICK", "WAHLBERG"),
+            new ActorName(3L, "JOHNNY", "LOLLOBRIGIDA")
+        ));
+    }
+
+    @Test
+    @DisplayName("인덱스가 구성되기 전(cold)에는 검색 결과 대신 빈 Optional 을 반환한다.")
+    void findActorIdsContaining_WhenCold() {
+        assertThat(new ActorNameIndex().findActorIdsContaining("NICK"))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 일부(first + last 에 걸친 경우 포함)를 대소문자 구분 없이 검색한다.")
+    void findActorIdsContaining() {
+        assertThat(actorNameIndex.findActorIdsContaining("lollobrigida")).contains(Set.of(3L));
+        assertThat(actorNameIndex.findActorIdsContaining("NICK WAHL")).contains(Set.of(2L));
+        assertThat(actorNameIndex.findActorIdsContaining("NI")).contains(Set.of(2L));
+        assertThat(actorNameIndex.findActorIdsContaining("TOM")).contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("저장/수정/삭제가 인덱스에 반영된다.")
+    void putMergeAndRemove() {
+        actorNameIndex.put(4L, "TOM", "CRUISE");
+        assertThat(actorNameIndex.findActorIdsContaining("CRUISE")).contains(Set.of(4L));
+
+        actorNameIndex.merge(4L, "SURI", null);
+        assertThat(actorNameIndex.findActorIdsContaining("TOM")).contains(Set.of());
+        assertThat(actorNameIndex.findActorIdsContaining("SURI CRUISE")).contains(Set.of(4L));
+
+        actorNameIndex.remove(4L);
+        assertThat(actorNameIndex.findActorIdsContaining("CRUISE")).contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("DB 에서 다시 읽는 도중 변경되었다면 읽은 결과로 덮어쓰지 않는다.")
+    void rebuild_WhenModifiedDuringRead() {
+        // Given
+        long version = actorNameIndex.version();
+        List<ActorName> readBeforeInsert = List.of(new ActorName(1L, "PENELOPE", "GUINESS"));
+        actorNameIndex.put(4L, "TOM", "CRUISE");
+
+        // When
+        boolean rebuilt = actorNameIndex.rebuild(readBeforeInsert, version);
+
+        // Then
+        assertThat(rebuilt).isFalse();
+        assertThat(actorNameIndex.findActorIdsContaining("CRUISE")).contains(Set.of(4L));
+        assertThat(actorNameIndex.rebuild(readBeforeInsert, actorNameIndex.version())).isTrue();
+        assertThat(actorNameIndex.findActorIdsContaining("CRUISE")).contains(Set.of());
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.jooqpractice.actor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
 import com.example.jooqpractice.tables.pojos.Actor;
@@ -8,6 +10,9 @@ import com.example.jooqpractice.tables.records.ActorRecord;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.jooq.exception.DataAccessException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -123,6 +128,48 @@ class ActorRepositoryTest {
             .hasSize(1);
     }
 
+    @Test
+    @DisplayName("MULTISET 을 이용하여 배우 1명당 1행으로 필모그래피를 조회한다.")
+    void findActorFilmographyByMultiset() {
+        // Given
+        var searchOption = ActorFilmographySearchOption.builder()
+            .actorName("LOLLOBRIGIDA")
+            .build();
+
+        // When
+        List<ActorFilmography> result = actorRepository.findActorFilmographyByMultiset(searchOption);
+
+        // Then
+        assertThat(result)
+            .hasSize(1);
+
+        assertThat(result.getFirst().filmList())
+            .hasSameSizeAs(actorRepository.findActorFilmography(searchOption).getFirst().filmList());
+    }
+
+    @Test
+    @DisplayName("MULTISET 필모그래피 조회 시 필요한 Film 컬럼만 로딩한다.")
+    void findActorFilmographyByMultisetWithProjection() {
+        // Given
+        var searchOption = ActorFilmographySearchOption.builder()
+            .actorName("LOLLOBRIGIDA")
+            .filmTitle("COMMANDMENTS EXPRESS")
+            .build();
+
+        // When
+        List<ActorFilmography> result = actorRepository.findActorFilmographyByMultiset(
+            searchOption, ActorFilmographyProjection.TITLE);
+
+        // Then
+        assertThat(result)
+            .hasSize(1);
+
+        assertThat(result.getFirst().filmList())
+            .hasSize(1)
+            .allSatisfy(film -> assertThat(film.getTitle()).isEqualTo("COMMANDMENTS EXPRESS"))
+            .allSatisfy(film -> assertThat(film.getDescription()).isNull());
+    }
+
     @Test
     @DisplayName("JOOQ에서 제공하는 DAO를 사용하여 Actor를 저장한다.")
     @Transactional
@@ -275,6 +322,66 @@ class ActorRepositoryTest {
                 .containsExactly(actor.getFirstName(), actor.getLastName()));
     }
 
+    @Test
+    @DisplayName("여러 Actor를 chunk 단위로 나누어 Bulk Insert 하고, 입력 순서대로 PK 리스트를 반환받는다.")
+    @Transactional
+    void bulk_insert_in_chunks() {
+        // Given
+        List<Actor> actors = IntStream.range(0, 5)
+            .mapToObj(i -> new Actor(null, "John" + i, "Doe" + i, null))
+            .toList();
+
+        // When
+        List<Long> pks = actorRepository.bulkInsertInChunks(actors.stream(), 2);
+
+        // Then
+        assertThat(pks)
+            .hasSameSizeAs(actors)
+            .isSorted();
+
+        assertThat(pks)
+            .map(pk -> actorRepository.findById(pk).orElseThrow().getFirstName())
+            .containsExactly("John0", "John1", "John2", "John3", "John4");
+    }
+
+    @Test
+    @DisplayName("chunk 크기가 placeholder 제한을 넘으면 예외가 발생한다.")
+    void bulk_insert_in_chunks_WhenChunkSizeIsTooLarge() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> actorRepository.bulkInsertInChunks(Stream.<Actor>empty(), 40_000));
+    }
+
+    @Test
+    @DisplayName("JOOQ의 Loader API를 사용하여 여러 Actor를 chunk 단위로 적재한다.")
+    @Transactional
+    void bulk_load() {
+        // Given
+        Stream<Actor> actors = IntStream.range(0, 5)
+            .mapToObj(i -> new Actor(null, "John" + i, "Doe" + i, null));
+
+        // When
+        int stored = actorRepository.bulkLoad(actors, 2);
+
+        // Then
+        assertThat(stored).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Loader API 로 적재하다 실패하면 예외를 던져 이미 적재한 chunk 까지 롤백되도록 한다.")
+    @Transactional
+    void bulk_load_WhenRowFails() {
+        // Given
+        Stream<Actor> actors = Stream.of(
+            new Actor(null, "John0", "Doe0", null),
+            new Actor(null, "John1", "Doe1", null),
+            new Actor(null, null, "Doe2", null));
+
+        // When & Then
+        assertThatExceptionOfType(DataAccessException.class)
+            .isThrownBy(() -> actorRepository.bulkLoad(actors, 2))
+            .withMessageContaining("row");
+    }
+
     @Test
     @DisplayName("POJO를 통해 Actor를 업데이트한다. (JOOQ에서 제공하는 DAO를 사용)")
     @Transactional
@@ -449,4 +556,94 @@ class ActorRepositoryTest {
         assertThat(result)
             .isNotPresent();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조회했을 때의 last_update 가 그대로인 경우에만 조회 없이 Actor 를 업데이트한다.")
+    @Transactional
+    void updateIfNotModified() {
+        // Given
+        var actor = new Actor();
+        actor.setFirstName("Tom");
+        actor.setLastName("Cruise");
+
+        Long id = actorRepository.saveWithReturningPkOnly(actor);
+        LocalDateTime lastUpdate = actorRepository.findRecordByActorId(id).getLastUpdate();
+
+        var request = ActorUpdateRequest.builder()
+            .firstName("Suri")
+            .build();
+
+        // When
+        boolean updated = actorRepository.updateIfNotModified(id, lastUpdate, request);
+        boolean updatedWithStaleLastUpdate = actorRepository.updateIfNotModified(id, lastUpdate,
+            ActorUpdateRequest.builder().lastName("Holmes").build());
+
+        // Then
+        assertThat(updated).isTrue();
+        assertThat(updatedWithStaleLastUpdate).isFalse();
+
+        ActorRecord result = actorRepository.findRecordByActorId(id);
+        assertThat(result.getFirstName()).isEqualTo("Suri");
+        assertThat(result.getLastName()).isEqualTo("Cruise");
+        assertThat(result.getLastUpdate()).isAfter(lastUpdate);
+    }
+
+    @Test
+    @DisplayName("여러 Actor 의 변경을 하나의 batch 로 적용하고, last_update 가 바뀐 요청은 적용하지 않는다.")
+    @Transactional
+    void updateAllIfNotModified() {
+        // Given
+        // rewriteBatchedStatements 는 4개 이상의 statement 부터 batch 를 다시 쓰므로, 그보다 많은 요청으로 확인한다.
+        int requestCount = 5;
+        int conflictIndex = 2;
+        List<Long> ids = IntStream.range(0, requestCount)
+            .mapToObj(i -> {
+                var actor = new Actor();
+                actor.setFirstName("Tom" + i);
+                actor.setLastName("Cruise" + i);
+                return actorRepository.saveWithReturningPkOnly(actor);
+            })
+            .toList();
+        List<LocalDateTime> lastUpdates = ids.stream()
+            .map(id -> actorRepository.findRecordByActorId(id).getLastUpdate())
+            .toList();
+
+        // 가운데 배우는 다른 곳에서 먼저 변경되었다.
+        actorRepository.updateIfNotModified(ids.get(conflictIndex), lastUpdates.get(conflictIndex),
+            ActorUpdateRequest.builder().firstName("Other").build());
+
+        // When
+        List<Boolean> results = actorRepository.updateAllIfNotModified(IntStream.range(0, requestCount)
+            .mapToObj(i -> new VersionedActorUpdateRequest(ids.get(i), lastUpdates.get(i),
+                ActorUpdateRequest.builder().lastName("Holmes").build()))
+            .toList());
+
+        // Then
+        assertThat(results).containsExactly(true, true, false, true, true);
+        assertThat(ids)
+            .extracting(id -> actorRepository.findRecordByActorId(id).getLastName())
+            .containsExactly("Holmes", "Holmes", "Cruise2", "Holmes", "Holmes");
+    }
+
+    @Test
+    @DisplayName("조회했을 때의 last_update 가 그대로인 경우에만 조회 없이 Actor 를 삭제한다.")
+    @Transactional
+    void deleteByIdIfNotModified() {
+        // Given
+        var actor = new Actor();
+        actor.setFirstName("Tom");
+        actor.setLastName("Cruise");
+
+        Long id = actorRepository.saveWithReturningPkOnly(actor);
+        LocalDateTime lastUpdate = actorRepository.findRecordByActorId(id).getLastUpdate();
+
+        // When
+        boolean deletedWithStaleLastUpdate = actorRepository.deleteByIdIfNotModified(id, lastUpdate.minusSeconds(1));
+        boolean deleted = actorRepository.deleteByIdIfNotModified(id, lastUpdate);
+
+        // Then
+        assertThat(deletedWithStaleLastUpdate).isFalse();
+        assertThat(deleted).isTrue();
+        assertThat(actorRepository.findById(id)).isNotPresent();
+    }
+}
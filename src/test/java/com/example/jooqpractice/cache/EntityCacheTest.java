@@ -0,0 +1,149 @@
+package com.example.jooqpractice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jooqpractice.actor.ActorRepository;
+import com.example.jooqpractice.film.FilmRepository;
+import com.example.jooqpractice.tables.JActor;
+import com.example.jooqpractice.tables.JFilm;
+import com.example.jooqpractice.tables.pojos.Actor;
+import com.example.jooqpractice.tables.pojos.Film;
+import com.example.jooqpractice.tables.records.ActorRecord;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class EntityCacheTest {
+
+    @Autowired
+    FilmRepository filmRepository;
+
+    @Autowired
+    ActorRepository actorRepository;
+
+    @Autowired
+    EntityCache entityCache;
+
+    @Autowired
+    DSLContext dslContext;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("PK 조회 결과를 캐시하고, 호출 측에서 변경해도 캐시된 값은 변경되지 않는다.")
+    void findByIdIsCached() {
+        // Given
+        Film film = filmRepository.findById(1L);
+        film.setTitle("CHANGED");
+
+        // When
+        Film cachedFilm = filmRepository.findById(1L);
+
+        // Then
+        assertThat(entityCache.isCached(JFilm.FILM, 1L, Film.class)).isTrue();
+        assertThat(cachedFilm).isNotSameAs(film);
+        assertThat(cachedFilm.getTitle()).isNotEqualTo("CHANGED");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안에서는 캐시를 거치지 않는다.")
+    void bypassInWritableTransaction() {
+        // Given
+        entityCache.invalidate(JFilm.FILM, 2L);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> filmRepository.findById(2L));
+
+        // Then
+        assertThat(entityCache.isCached(JFilm.FILM, 2L, Film.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DSL 로 실행한 UPDATE 는 대상 테이블의 캐시를 무효화한다.")
+    void invalidateByDslUpdate() {
+        // Given
+        Film film = filmRepository.findById(1L);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            dslContext.update(JFilm.FILM)
+                .set(JFilm.FILM.TITLE, film.getTitle())
+                .where(JFilm.FILM.FILM_ID.eq(1L))
+                .execute();
+
+            assertThat(entityCache.isCached(JFilm.FILM, 1L, Film.class)).isFalse();
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(entityCache.isCached(JFilm.FILM, 1L, Film.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("WHERE 가 PK 로 대상 row 를 한정한 DSL UPDATE 는 해당 PK 의 캐시만 무효화한다.")
+    void invalidateByDslUpdate_WhenWhereIsPrimaryKey() {
+        // Given
+        Film film = filmRepository.findById(1L);
+        filmRepository.findById(3L);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            dslContext.update(JFilm.FILM)
+                .set(JFilm.FILM.TITLE, film.getTitle())
+                .where(JFilm.FILM.FILM_ID.in(1L, 2L))
+                .execute();
+
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(entityCache.isCached(JFilm.FILM, 1L, Film.class)).isFalse();
+        assertThat(entityCache.isCached(JFilm.FILM, 3L, Film.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("DSL 로 실행한 INSERT 는 기존 row 를 바꾸지 않으므로 캐시를 무효화하지 않는다.")
+    void notInvalidateByDslInsert() {
+        // Given
+        actorRepository.findById(1L);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            dslContext.insertInto(JActor.ACTOR, JActor.ACTOR.FIRST_NAME, JActor.ACTOR.LAST_NAME)
+                .values("CACHED", "INSERT")
+                .execute();
+
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(entityCache.isCached(JActor.ACTOR, 1L, Actor.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("UpdatableRecord 의 update 는 해당 PK 의 캐시를 무효화한다.")
+    void invalidateByActiveRecordUpdate() {
+        // Given
+        actorRepository.findById(1L);
+        assertThat(entityCache.isCached(JActor.ACTOR, 1L, Actor.class)).isTrue();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            ActorRecord actorRecord = dslContext.fetchOne(JActor.ACTOR, JActor.ACTOR.ACTOR_ID.eq(1L));
+            actorRecord.setFirstName("CACHED");
+            actorRecord.update();
+
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(entityCache.isCached(JActor.ACTOR, 1L, Actor.class)).isFalse();
+        assertThat(actorRepository.findById(1L)).hasValueSatisfying(actor ->
+            assertThat(actor.getFirstName()).isNotEqualTo("CACHED"));
+    }
+}
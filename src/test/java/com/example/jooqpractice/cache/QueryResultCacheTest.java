@@ -0,0 +1,116 @@
+package com.example.jooqpractice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jooqpractice.film.FilmRentalSummary;
+import com.example.jooqpractice.film.FilmRepository;
+import com.example.jooqpractice.tables.JRental;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Set;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class QueryResultCacheTest {
+    private static final String QUERY_LATENCY_METRIC_NAME = "jooq.query.latency";
+
+    @Autowired
+    FilmRepository filmRepository;
+
+    @Autowired
+    QueryResultCache queryResultCache;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    DSLContext dslContext;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("같은 SQL 과 bind 값으로 다시 조회하면 캐시된 결과를 반환하고, 읽은 테이블을 기록한다.")
+    void cacheBySqlAndBindings() {
+        // Given
+        List<FilmRentalSummary> first = filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration("ACADEMY");
+        long hitCount = queryResultCache.hitCount();
+
+        // When
+        List<FilmRentalSummary> second = filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration("ACADEMY");
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(queryResultCache.hitCount()).isGreaterThan(hitCount);
+        assertThat(queryResultCache.hasResultsReading("film")).isTrue();
+        assertThat(queryResultCache.hasResultsReading("rental")).isTrue();
+        assertThat(queryResultCache.hasResultsReading("inventory")).isTrue();
+        assertThat(meterRegistry.get(QueryResultCache.HIT_RATIO_METRIC_NAME).gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("읽은 테이블에 DML 이 실행되면 캐시된 결과를 무효화한다.")
+    void invalidateByDml() {
+        // Given
+        filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration("ACADEMY");
+        assertThat(queryResultCache.hasResultsReading("rental")).isTrue();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            dslContext.update(JRental.RENTAL)
+                .set(JRental.RENTAL.RETURN_DATE, JRental.RENTAL.RETURN_DATE)
+                .where(JRental.RENTAL.RENTAL_ID.eq(1))
+                .execute();
+
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(queryResultCache.hasResultsReading("rental")).isFalse();
+        assertThat(queryResultCache.hasResultsReading("film")).isFalse();
+    }
+
+    @Test
+    @DisplayName("결과를 조회하는 도중 읽은 테이블이 무효화되면 변경 전일 수 있는 결과를 캐시하지 않는다.")
+    void doNotCacheResultLoadedDuringInvalidation() {
+        // Given
+        var key = new QueryResultCache.Key("select * from film_text where film_id = ?", new Object[] {1L});
+        Result<Record> loaded = dslContext.newResult();
+
+        // When
+        queryResultCache.get(key, () -> Set.of("film_text"), () -> {
+            queryResultCache.invalidateTable("film_text");
+            return loaded;
+        });
+
+        // Then
+        assertThat(queryResultCache.hasResultsReading("film_text")).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시 hit 은 DB 실행이 아니므로 쿼리 실행 지표에 기록하지 않는다.")
+    void doNotRecordCacheHitAsExecution() {
+        // Given
+        filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration("ACADEMY");
+        long executions = meterRegistry.find(QUERY_LATENCY_METRIC_NAME).timers().stream()
+            .mapToLong(Timer::count)
+            .sum();
+
+        // When
+        filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration("ACADEMY");
+
+        // Then
+        assertThat(meterRegistry.find(QUERY_LATENCY_METRIC_NAME).timers().stream()
+            .mapToLong(Timer::count)
+            .sum())
+            .isEqualTo(executions);
+    }
+}
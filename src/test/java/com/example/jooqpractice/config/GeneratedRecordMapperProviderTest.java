@@ -0,0 +1,105 @@
+package com.example.jooqpractice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jooqpractice.film.FilmWithActor;
+import com.example.jooqpractice.film.FilmWithActorRecordMapper;
+import com.example.jooqpractice.film.SimpleFilmInfo;
+import com.example.jooqpractice.film.SimpleFilmInfoRecordMapper;
+import com.example.jooqpractice.tables.JActor;
+import com.example.jooqpractice.tables.JFilm;
+import com.example.jooqpractice.tables.JFilmActor;
+import java.util.List;
+import org.jooq.DSLContext;
+import org.jooq.Record3;
+import org.jooq.RecordMapper;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class GeneratedRecordMapperProviderTest {
+    private static final JFilm FILM = JFilm.FILM;
+    private static final JFilmActor FILM_ACTOR = JFilmActor.FILM_ACTOR;
+    private static final JActor ACTOR = JActor.ACTOR;
+
+    @Autowired
+    DSLContext dslContext;
+
+    @Test
+    @DisplayName("조회 컬럼 수가 record component 수와 같으면 컴파일 시점에 생성된 RecordMapper 를 사용한다.")
+    void provideGeneratedRecordMapper() {
+        // Given
+        Record3<Long, String, String> record = dslContext.newRecord(FILM.FILM_ID, FILM.TITLE, FILM.DESCRIPTION)
+            .values(1L, "ACADEMY DINOSAUR", "A Epic Drama");
+
+        // When
+        RecordMapper<Record3<Long, String, String>, SimpleFilmInfo> mapper = dslContext.configuration()
+            .recordMapperProvider()
+            .provide(dslContext.select(FILM.FILM_ID, FILM.TITLE, FILM.DESCRIPTION).recordType(), SimpleFilmInfo.class);
+
+        // Then
+        assertThat(mapper)
+            .isInstanceOf(SimpleFilmInfoRecordMapper.class);
+
+        assertThat(mapper.map(record))
+            .isEqualTo(new SimpleFilmInfo(1L, "ACADEMY DINOSAUR", "A Epic Drama"));
+    }
+
+    @Test
+    @DisplayName("조회 컬럼 수가 record component 수와 다르면 jOOQ 기본 RecordMapper 로 대체한다.")
+    void provideDefaultRecordMapper_WhenFieldCountDiffers() {
+        RecordMapper<?, SimpleFilmInfo> mapper = dslContext.configuration()
+            .recordMapperProvider()
+            .provide(dslContext.select(FILM.FILM_ID, FILM.TITLE).recordType(), SimpleFilmInfo.class);
+
+        assertThat(mapper)
+            .isNotInstanceOf(SimpleFilmInfoRecordMapper.class);
+    }
+
+    @Test
+    @DisplayName("중첩 row 는 field 이름으로 POJO 생성자 인자를 찾아, 일부 컬럼만 조회해도 생성된 RecordMapper 로 매핑한다.")
+    void provideGeneratedRecordMapper_WithNestedRow() {
+        // Given
+        var select = dslContext.select(
+            DSL.row(FILM.TITLE, FILM.FILM_ID),
+            DSL.row(FILM_ACTOR.fields()),
+            DSL.row(ACTOR.fields()));
+
+        // When
+        List<FilmWithActor> result = select.from(FILM)
+            .join(FILM_ACTOR).on(FILM_ACTOR.FILM_ID.eq(FILM.FILM_ID))
+            .join(ACTOR).on(ACTOR.ACTOR_ID.eq(FILM_ACTOR.ACTOR_ID))
+            .where(FILM.FILM_ID.eq(1L))
+            .fetchInto(FilmWithActor.class);
+
+        // Then
+        assertThat(dslContext.configuration().recordMapperProvider().provide(select.recordType(), FilmWithActor.class))
+            .isInstanceOf(FilmWithActorRecordMapper.class);
+
+        assertThat(result)
+            .isNotEmpty()
+            .allSatisfy(it -> {
+                assertThat(it.getFilmId()).isEqualTo(1L);
+                assertThat(it.getFilmTitle()).isEqualTo("ACADEMY DINOSAUR");
+                assertThat(it.film().getDescription()).isNull();
+                assertThat(it.actor().getActorId()).isEqualTo(it.filmActor().getActorId());
+            });
+    }
+
+    @Test
+    @DisplayName("중첩 row 의 컬럼 타입이 POJO 생성자 인자 타입과 다르면 jOOQ 기본 RecordMapper 로 대체한다.")
+    void provideDefaultRecordMapper_WhenNestedTypeDiffers() {
+        RecordMapper<?, FilmWithActor> mapper = dslContext.configuration()
+            .recordMapperProvider()
+            .provide(dslContext.select(
+                DSL.row(FILM.TITLE.as("film_id")),
+                DSL.row(FILM_ACTOR.fields()),
+                DSL.row(ACTOR.fields())).recordType(), FilmWithActor.class);
+
+        assertThat(mapper)
+            .isNotInstanceOf(FilmWithActorRecordMapper.class);
+    }
+}
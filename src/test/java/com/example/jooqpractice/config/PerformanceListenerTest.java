@@ -0,0 +1,47 @@
+package com.example.jooqpractice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jooqpractice.tables.JActor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class PerformanceListenerTest {
+
+    @Autowired
+    DSLContext dslContext;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("바인딩 값과 IN 목록의 길이가 달라도 같은 형태의 SQL 로 정규화한다.")
+    void normalize() {
+        assertThat(PerformanceListener.normalize("select *  from actor\n where actor_id in (1, 2, 3) and first_name = 'ED'"))
+            .isEqualTo(PerformanceListener.normalize("select * from actor where actor_id in (?, ?) and first_name = ?"))
+            .isEqualTo("select * from actor where actor_id in (?) and first_name = ?");
+
+        assertThat(PerformanceListener.normalize("insert into actor (first_name, last_name) values (?, ?), (?, ?)"))
+            .isEqualTo("insert into actor (first_name, last_name) values (?)");
+    }
+
+    @Test
+    @DisplayName("쿼리를 실행하면 SQL 형태 별 실행 시간 지표가 기록된다.")
+    void recordQueryLatency() {
+        // When
+        dslContext.selectFrom(JActor.ACTOR)
+            .where(JActor.ACTOR.ACTOR_ID.eq(1L))
+            .fetch();
+
+        // Then
+        assertThat(meterRegistry.find(PerformanceListener.METRIC_NAME).timers())
+            .isNotEmpty()
+            .anySatisfy(timer -> assertThat(timer.getId().getTag("sql")).contains("actor"))
+            .allSatisfy(timer -> assertThat(timer.count()).isPositive());
+    }
+}
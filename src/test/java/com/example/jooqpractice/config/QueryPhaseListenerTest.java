@@ -0,0 +1,44 @@
+package com.example.jooqpractice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jooqpractice.film.FilmRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+@SpringBootTest
+class QueryPhaseListenerTest {
+
+    private static final String CALLER = "FilmRepository.findFilmWithActorList";
+
+    @Autowired
+    FilmRepository filmRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Repository 메서드 별로 jOOQ 실행 단계 시간, 조회 row 수, 결과 매핑 시간, 그 외 시간을 기록한다.")
+    void recordPhasesByRepositoryMethod() {
+        // When
+        filmRepository.findFilmWithActorList(PageRequest.of(0, 10));
+
+        // Then
+        assertThat(meterRegistry.find(QueryPhaseListener.PHASE_METRIC_NAME).tag("caller", CALLER).timers())
+            .extracting(timer -> timer.getId().getTag("phase"))
+            .contains("render", "execute", "fetch");
+
+        assertThat(meterRegistry.get(QueryPhaseListener.ROWS_METRIC_NAME).tag("caller", CALLER).summary().totalAmount())
+            .isGreaterThanOrEqualTo(10.0);
+
+        assertThat(meterRegistry.get(RepositoryMetricsAspect.MAPPING_METRIC_NAME).tag("caller", CALLER).timer().count())
+            .isPositive();
+
+        assertThat(meterRegistry.get(RepositoryMetricsAspect.OTHER_METRIC_NAME).tag("caller", CALLER).timer().count())
+            .isPositive();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.jooqpractice.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+    "jooq.replica.enabled=true",
+    "spring.datasource.hikari.maximum-pool-size=7",
+    "spring.datasource.hikari.connection-timeout=2500"
+})
+class ReplicaDataSourceConfigTest {
+
+    @Autowired
+    HikariDataSource primaryDataSource;
+
+    @Test
+    @DisplayName("replica 라우팅을 사용해도 primary 풀에는 spring.datasource.hikari 설정이 적용된다.")
+    void primaryDataSourceBindsHikariProperties() {
+        assertThat(primaryDataSource.getPoolName()).isEqualTo("primary");
+        assertThat(primaryDataSource.getMaximumPoolSize()).isEqualTo(7);
+        assertThat(primaryDataSource.getConnectionTimeout()).isEqualTo(2500L);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.jooqpractice.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final ReplicaNode replica1 = new ReplicaNode("replica-1", new HikariDataSource());
+
+    private final ReplicaNode replica2 = new ReplicaNode("replica-2", new HikariDataSource());
+
+    private final ReplicaRoutingDataSource routingDataSource =
+        new ReplicaRoutingDataSource(new HikariDataSource(), List.of(replica1, replica2));
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TransactionSynchronizationManager.clear();
+        ReplicaRoutingContext.restore(false);
+        routingDataSource.close();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 읽기로 표시되지 않은 쿼리는 primary 를 사용한다.")
+    void determineCurrentLookupKey_WhenNotRead() {
+        replica1.markAvailable(0);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 쿼리는 사용 가능한 replica 만 돌아가며 사용한다.")
+    void determineCurrentLookupKey_WhenRead() {
+        replica1.markAvailable(0);
+        replica2.markAvailable(1);
+        ReplicaRoutingContext.enterRead();
+
+        assertThat(List.of(routingDataSource.determineCurrentLookupKey(), routingDataSource.determineCurrentLookupKey()))
+            .containsExactlyInAnyOrder("replica-1", "replica-2");
+
+        replica2.markUnavailable(-1);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("사용 가능한 replica 가 없으면 읽기 쿼리도 primary 를 사용한다.")
+    void determineCurrentLookupKey_WhenNoReplicaAvailable() {
+        ReplicaRoutingContext.enterRead();
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 readOnly 트랜잭션만 replica 를 사용한다.")
+    void determineCurrentLookupKey_InTransaction() {
+        replica1.markAvailable(0);
+        ReplicaRoutingContext.enterRead();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("onPrimary 안의 조회는 읽기로 표시되었거나 readOnly 트랜잭션이어도 primary 를 사용한다.")
+    void determineCurrentLookupKey_OnPrimary() {
+        replica1.markAvailable(0);
+        ReplicaRoutingContext.enterRead();
+
+        assertThat(ReplicaRoutingContext.onPrimary(routingDataSource::determineCurrentLookupKey))
+            .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(ReplicaRoutingContext.onPrimary(routingDataSource::determineCurrentLookupKey))
+            .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+}
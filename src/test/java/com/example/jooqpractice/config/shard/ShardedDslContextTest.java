@@ -0,0 +1,47 @@
+package com.example.jooqpractice.config.shard;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.jooqpractice.config.FanOutProperties;
+import java.time.Duration;
+import java.util.List;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+
+class ShardedDslContextTest {
+
+    private final DSLContext dslContext = DSL.using(SQLDialect.MYSQL);
+
+    private final FanOutProperties fanOutProperties = new FanOutProperties(0, 2, Duration.ofSeconds(3));
+
+    @Test
+    @DisplayName("샤딩을 사용하면 store-ids 가 비어있는 샤드는 허용하지 않는다.")
+    void create_WhenStoreIdsAreEmpty() {
+        // Given
+        ShardProperties shardProperties = new ShardProperties(true, List.of(
+            new ShardProperties.Node("store-1", "jdbc:mysql://localhost:3309/sakila", null, null, List.of(1L)),
+            new ShardProperties.Node("store-2", "jdbc:mysql://localhost:3310/sakila", null, null, List.of())), 4);
+
+        // When & Then
+        assertThatThrownBy(() -> new ShardedDslContext(
+            dslContext, new DataSourceProperties(), shardProperties, fanOutProperties))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("store-2");
+    }
+
+    @Test
+    @DisplayName("샤딩을 사용하면 샤드가 하나 이상 있어야 한다.")
+    void create_WhenNodesAreEmpty() {
+        // Given
+        ShardProperties shardProperties = new ShardProperties(true, List.of(), 4);
+
+        // When & Then
+        assertThatThrownBy(() -> new ShardedDslContext(
+            dslContext, new DataSourceProperties(), shardProperties, fanOutProperties))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
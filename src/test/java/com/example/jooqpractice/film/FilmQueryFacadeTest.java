@@ -0,0 +1,46 @@
+package com.example.jooqpractice.film;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jooqpractice.tables.pojos.Actor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class FilmQueryFacadeTest {
+
+    @Autowired
+    FilmQueryFacade filmQueryFacade;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("가상 스레드로 동시에 조회한 영화 상세 정보는 순차 조회 결과와 같다.")
+    void getFilmDetail() {
+        // When
+        FilmDetail parallel = filmQueryFacade.getFilmDetail(1L).orElseThrow();
+        FilmDetail sequential = filmQueryFacade.getFilmDetailSequentially(1L).orElseThrow();
+
+        // Then
+        assertThat(parallel.film().getFilmId()).isEqualTo(sequential.film().getFilmId());
+        assertThat(parallel.actors())
+            .isNotEmpty()
+            .extracting(Actor::getActorId)
+            .containsExactlyElementsOf(sequential.actors().stream().map(Actor::getActorId).toList());
+        assertThat(parallel.priceSummary()).isEqualTo(sequential.priceSummary());
+        assertThat(parallel.rentalSummary()).isEqualTo(sequential.rentalSummary());
+
+        assertThat(meterRegistry.get(FilmQueryFacade.METRIC_NAME).tag("mode", "parallel").timer().count()).isPositive();
+        assertThat(meterRegistry.get(FilmQueryFacade.METRIC_NAME).tag("mode", "sequential").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 영화는 빈 Optional 을 반환한다.")
+    void getFilmDetail_WhenNotFound() {
+        assertThat(filmQueryFacade.getFilmDetail(-1L)).isEmpty();
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.jooqpractice.film;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.example.jooqpractice.tables.pojos.Film;
 import java.util.Comparator;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
@@ -48,6 +51,48 @@ class FilmRepositoryTest {
             .allSatisfy(it -> assertThat(it).isNotNull());
     }
 
+    @Test
+    @DisplayName("영화와 영화에 출연한 배우 정보를 (film_id, actor_id) 커서 기반으로 조회한다.")
+    void findFilmWithActorListAfter() {
+        List<FilmWithActor> firstPage = filmRepository.findFilmWithActorListAfter(null, 5);
+
+        FilmWithActorCursor cursor = FilmWithActorCursor.decode(
+            FilmWithActorCursor.from(firstPage.getLast()).encode());
+
+        List<FilmWithActor> secondPage = filmRepository.findFilmWithActorListAfter(cursor, 5);
+
+        assertThat(firstPage)
+            .hasSize(5)
+            .isSortedAccordingTo(Comparator.comparing(FilmWithActor::getFilmId));
+
+        assertThat(secondPage)
+            .hasSize(5)
+            .allSatisfy(it -> assertThat(it.getFilmId()).isGreaterThanOrEqualTo(cursor.filmId()));
+
+        // FilmWithActor 는 equals 를 구현하지 않으므로 (film_id, actor_id) 로 비교한다.
+        assertThat(secondPage)
+            .extracting(FilmWithActor::getFilmId, it -> it.actor().getActorId())
+            .doesNotContainAnyElementsOf(firstPage.stream()
+                .map(it -> tuple(it.getFilmId(), it.actor().getActorId()))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("영화 단위로 페이징하여 영화별 출연 배우 목록을 함께 조회한다.")
+    void findFilmWithActorsList() {
+        List<FilmWithActors> result = filmRepository.findFilmWithActorsList(PageRequest.of(1, 5));
+
+        assertThat(result)
+            .hasSize(5)
+            .doesNotHaveDuplicates()
+            .isSortedAccordingTo(Comparator.comparing(FilmWithActors::getFilmId))
+            .allSatisfy(it -> assertThat(it.actors()).isNotNull());
+
+        assertThat(result)
+            .flatExtracting(FilmWithActors::actors)
+            .isNotEmpty();
+    }
+
     @Test
     @DisplayName("영화 제목을 포함하는 영화의 가격 요약 정보를 조회한다.")
     void findFilmPriceSummaryByFilmTitle() {
@@ -64,6 +109,25 @@ class FilmRepositoryTest {
             .allSatisfy(it -> assertThat(it.priceCategory()).isNotNull());
     }
 
+    @ParameterizedTest
+    @EnumSource(value = InventoryCountSource.class, names = {"GROUPED_JOIN", "IN_MEMORY_INDEX"})
+    @DisplayName("상관 서브쿼리 대신 grouped join 이나 inventory 수 인덱스로 조회해도 재고 수가 같다.")
+    void findFilmPriceSummaryByFilmTitleWithInventoryCountSource(InventoryCountSource inventoryCountSource) {
+        // Given
+        String givenFilmTitle = "EGG";
+        List<FilmPriceSummary> expected = filmRepository.findFilmPriceSummaryByFilmTitle(
+            givenFilmTitle, FilmSearchMode.CONTAINS, InventoryCountSource.CORRELATED_SUBQUERY);
+
+        // When
+        List<FilmPriceSummary> result = filmRepository.findFilmPriceSummaryByFilmTitle(
+            givenFilmTitle, FilmSearchMode.CONTAINS, inventoryCountSource);
+
+        // Then
+        assertThat(result)
+            .isNotEmpty()
+            .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
     @Test
     @DisplayName("영화 제목을 포함하는 영화의 대여 기간 순으로 영화 대여 요약 정보를 조회한다.")
     void findFilmRentalSummaryByFilmTitleOrderByRentalDuration() {
@@ -96,4 +160,57 @@ class FilmRepositoryTest {
             .isNotEmpty()
             .allMatch(it -> it.getTitle().contains(filmTitle));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @EnumSource(value = RentedFilmFilter.class, names = {"SEMI_JOIN", "BITMAP"})
+    @DisplayName("EXISTS 대신 semi-join 이나 대여된 영화 비트셋으로 걸러내도 결과가 같다.")
+    void findRentedFilmsByFilmTitleWithRentedFilmFilter(RentedFilmFilter filter) {
+        // Given
+        String filmTitle = "A";
+        List<Film> expected = filmRepository.findRentedFilmsByFilmTitle(
+            filmTitle, FilmSearchMode.CONTAINS, RentedFilmFilter.EXISTS_SUBQUERY);
+
+        // When
+        List<Film> films = filmRepository.findRentedFilmsByFilmTitle(filmTitle, FilmSearchMode.CONTAINS, filter);
+
+        // Then
+        assertThat(films)
+            .isNotEmpty()
+            .extracting(Film::getFilmId)
+            .containsExactlyInAnyOrderElementsOf(expected.stream().map(Film::getFilmId).toList());
+    }
+
+    @Test
+    @DisplayName("film_text 의 FULLTEXT 인덱스(natural language mode)로 영화 가격 요약 정보를 조회한다.")
+    void findFilmPriceSummaryByFilmTitleWithNaturalLanguageSearch() {
+        // Given
+        String keyword = "DINOSAUR";
+
+        // When
+        List<FilmPriceSummary> result = filmRepository.findFilmPriceSummaryByFilmTitle(
+            keyword, FilmSearchMode.NATURAL_LANGUAGE);
+
+        // Then
+        assertThat(result)
+            .isNotEmpty()
+            .extracting(FilmPriceSummary::filmTitle)
+            .contains("ACADEMY DINOSAUR");
+    }
+
+    @Test
+    @DisplayName("film_text 의 FULLTEXT 인덱스(boolean mode)로 대여 이력이 있는 영화 목록을 조회한다.")
+    void findRentedFilmsByFilmTitleWithBooleanSearch() {
+        // Given
+        String keyword = "+ACADEMY +DINOSAUR";
+
+        // When
+        List<Film> films = filmRepository.findRentedFilmsByFilmTitle(keyword, FilmSearchMode.BOOLEAN);
+
+        // Then
+        assertThat(films)
+            .isNotEmpty()
+            .first()
+            .extracting(Film::getTitle)
+            .isEqualTo("ACADEMY DINOSAUR");
+    }
+}
@@ -2,7 +2,14 @@ package com.example.jooqpractice.film;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.example.jooqpractice.tables.pojos.Film;
+import com.example.jooqpractice.web.FilmWithActorCursorPagedResponse;
 import com.example.jooqpractice.web.FilmWithActorPagedResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -26,4 +33,55 @@ class FilmServiceTest {
 
         assertThat(filmActorPageResponse.filmActorList()).hasSize(20);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 영화를 id 순서대로 한 번에 조회하고, 존재하지 않는 id 는 제외한다.")
+    void getFilms() {
+        // Given
+        List<Long> filmIds = List.of(3L, 1L, 999_999L, 2L);
+
+        // When
+        List<Film> films = filmService.getFilms(filmIds);
+
+        // Then
+        assertThat(films)
+            .extracting(Film::getFilmId)
+            .containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("커서 기반으로 영화-배우 목록을 페이징하면 다음 페이지는 이전 페이지 이후의 행부터 조회된다.")
+    void getFilmActorCursorPageResponse() {
+        FilmWithActorCursorPagedResponse firstPage = filmService.getFilmActorCursorPageResponse(null, 20);
+
+        assertThat(firstPage.filmActorList()).hasSize(20);
+        assertThat(firstPage.page().hasNext()).isTrue();
+        assertThat(firstPage.page().nextCursor()).isNotBlank();
+
+        FilmWithActorCursorPagedResponse secondPage = filmService.getFilmActorCursorPageResponse(
+            firstPage.page().nextCursor(), 20);
+
+        assertThat(secondPage.filmActorList())
+            .hasSize(20)
+            .allSatisfy(it -> assertThat(it.filmId())
+                .isGreaterThanOrEqualTo(firstPage.filmActorList().getLast().filmId()))
+            .doesNotContainAnyElementsOf(firstPage.filmActorList());
+    }
+
+    @Test
+    @DisplayName("영화-배우 목록 전체를 NDJSON 으로 스트리밍하여 출력한다.")
+    void exportFilmActors() throws IOException {
+        // Given
+        var outputStream = new ByteArrayOutputStream();
+
+        // When
+        filmService.exportFilmActors(outputStream);
+
+        // Then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+
+        assertThat(lines)
+            .hasSizeGreaterThan(1000)
+            .allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}").contains("\"filmId\""));
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.jooqpractice.film;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.jooqpractice.tables.JFilm;
+import com.example.jooqpractice.tables.pojos.Film;
+import io.r2dbc.spi.ConnectionFactory;
+import java.util.List;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+@SpringBootTest
+class ReactiveFilmRepositoryTest {
+
+    @Autowired
+    ReactiveFilmRepository reactiveFilmRepository;
+
+    @Autowired
+    FilmRepository filmRepository;
+
+    @Autowired
+    Configuration configuration;
+
+    @Autowired
+    ConnectionFactory connectionFactory;
+
+    @Test
+    @DisplayName("R2DBC 로 조회한 영화는 JDBC 로 조회한 결과와 같다.")
+    void findById() {
+        // When
+        Film film = reactiveFilmRepository.findById(1L).block();
+
+        // Then
+        assertThat(film).isNotNull();
+        assertThat(film.getFilmId()).isEqualTo(1L);
+        assertThat(film.getTitle()).isEqualTo(filmRepository.findById(1L).getTitle());
+    }
+
+    @Test
+    @DisplayName("R2DBC Configuration 에서도 QueryTemplate 의 plain SQL 은 매번 조립한 쿼리와 같은 bind marker, bind 값으로 렌더링된다.")
+    void selectFilmById_RendersBindMarkersWithR2dbcConfiguration() {
+        // Given
+        DSLContext r2dbcDslContext = configuration.derive(connectionFactory).dsl();
+
+        // When
+        ResultQuery<Record> query = FilmRepository.selectFilmById(r2dbcDslContext, 1L);
+
+        // Then
+        String dynamicSql = r2dbcDslContext.select(JFilm.FILM.fields())
+            .from(JFilm.FILM)
+            .where(JFilm.FILM.FILM_ID.eq(1L))
+            .getSQL();
+
+        assertThat(query.getSQL()).isEqualTo(dynamicSql);
+        assertThat(query.getBindValues()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("R2DBC 로 조회한 영화, 배우 목록은 JDBC 로 조회한 결과와 같다.")
+    void findFilmWithActorList() {
+        // Given
+        PageRequest pageRequest = PageRequest.of(1, 20);
+
+        // When
+        List<FilmWithActor> reactive = reactiveFilmRepository.findFilmWithActorList(pageRequest).collectList().block();
+        List<FilmWithActor> blocking = filmRepository.findFilmWithActorList(pageRequest);
+
+        // Then
+        assertThat(reactive)
+            .hasSize(20)
+            .extracting(FilmWithActor::getFilmId, FilmWithActor::getActorFullName)
+            .containsExactlyElementsOf(blocking.stream()
+                .map(it -> tuple(it.getFilmId(), it.getActorFullName()))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 구독자가 요청한 만큼만 가져온다.")
+    void streamFilmWithActorList() {
+        // When
+        List<FilmWithActor> firstItems = reactiveFilmRepository.streamFilmWithActorList(16)
+            .take(50)
+            .collectList()
+            .block();
+
+        // Then
+        assertThat(firstItems).hasSize(50);
+        assertThat(firstItems)
+            .extracting(FilmWithActor::getFilmId)
+            .isSorted();
+    }
+
+    @Test
+    @DisplayName("R2DBC 로 조회한 가격 요약, 대여 요약은 JDBC 로 조회한 결과와 같다.")
+    void findSummaries() {
+        // When
+        List<FilmPriceSummary> priceSummaries = reactiveFilmRepository
+            .findFilmPriceSummaryByFilmTitle("EGG", FilmSearchMode.CONTAINS)
+            .collectList()
+            .block();
+        List<FilmRentalSummary> rentalSummaries = reactiveFilmRepository
+            .findFilmRentalSummaryByFilmTitleOrderByRentalDuration("EGG", FilmSearchMode.CONTAINS)
+            .collectList()
+            .block();
+
+        // Then
+        assertThat(priceSummaries)
+            .isNotEmpty()
+            .containsExactlyElementsOf(filmRepository.findFilmPriceSummaryByFilmTitle(
+                "EGG", FilmSearchMode.CONTAINS, InventoryCountSource.CORRELATED_SUBQUERY));
+        assertThat(rentalSummaries)
+            .isNotEmpty()
+            .containsExactlyElementsOf(
+                filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration("EGG", FilmSearchMode.CONTAINS));
+    }
+}
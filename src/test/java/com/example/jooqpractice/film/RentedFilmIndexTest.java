@@ -0,0 +1,57 @@
+package com.example.jooqpractice.film;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RentedFilmIndexTest {
+
+    @Test
+    @DisplayName("재집계 전(cold)에는 대여 여부를 알 수 없으며, add 는 무시된다.")
+    void isRented_WhenCold() {
+        // Given
+        RentedFilmIndex rentedFilmIndex = new RentedFilmIndex();
+
+        // When
+        rentedFilmIndex.add(1L);
+
+        // Then
+        assertThat(rentedFilmIndex.isWarm()).isFalse();
+        assertThat(rentedFilmIndex.isRented(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재집계 결과와 이후 추가된 대여를 film_id 로 확인한다.")
+    void isRented() {
+        // Given
+        RentedFilmIndex rentedFilmIndex = new RentedFilmIndex();
+        rentedFilmIndex.beginRebuild();
+        rentedFilmIndex.completeRebuild(List.of(1L, 3L));
+
+        // When
+        rentedFilmIndex.add(5L);
+
+        // Then
+        assertThat(rentedFilmIndex.isRented(1L)).isTrue();
+        assertThat(rentedFilmIndex.isRented(2L)).isFalse();
+        assertThat(rentedFilmIndex.isRented(5L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재집계 도중 추가된 대여는 재집계 결과에 합쳐진다.")
+    void addDuringRebuild() {
+        // Given
+        RentedFilmIndex rentedFilmIndex = new RentedFilmIndex();
+        rentedFilmIndex.beginRebuild();
+
+        // When
+        rentedFilmIndex.add(7L);
+        rentedFilmIndex.completeRebuild(List.of(1L));
+
+        // Then
+        assertThat(rentedFilmIndex.isRented(1L)).isTrue();
+        assertThat(rentedFilmIndex.isRented(7L)).isTrue();
+    }
+}
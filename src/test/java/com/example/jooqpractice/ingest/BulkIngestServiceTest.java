@@ -0,0 +1,78 @@
+package com.example.jooqpractice.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jooqpractice.actor.ActorFilmography;
+import com.example.jooqpractice.actor.ActorFilmographySearchOption;
+import com.example.jooqpractice.actor.ActorRepository;
+import com.example.jooqpractice.tables.JActor;
+import com.example.jooqpractice.tables.pojos.Actor;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class BulkIngestServiceTest {
+    private static final JActor ACTOR = JActor.ACTOR;
+
+    @Autowired
+    private BulkIngestService bulkIngestService;
+
+    @Autowired
+    private ActorRepository actorRepository;
+
+    @Autowired
+    private DSLContext dslContext;
+
+    @AfterEach
+    void tearDown() {
+        // 전용 커넥션 풀에서 chunk 마다 커밋되므로 테스트 트랜잭션으로 롤백되지 않는다.
+        dslContext.deleteFrom(ACTOR)
+            .where(ACTOR.FIRST_NAME.startsWith("BULK\""))
+            .execute();
+    }
+
+    @Test
+    @DisplayName("Actor 목록을 CSV 로 직렬화하여 DB 의 bulk loader 로 적재한다.")
+    void ingestActors() {
+        // Given
+        List<Actor> actors = IntStream.range(0, 100)
+            .mapToObj(i -> new Actor(null, "BULK\"" + i, "INGEST, " + i, null))
+            .toList();
+
+        // When
+        BulkIngestResult result = bulkIngestService.ingestActors(actors);
+
+        // Then
+        assertThat(result.table()).isEqualTo("actor");
+        assertThat(result.rows()).isEqualTo(100);
+        assertThat(result.rowsPerSecond()).isPositive();
+
+        assertThat(actorRepository.findBytFirstNameAndLastName("BULK\"7", "INGEST, 7"))
+            .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("적재한 chunk 가 커밋되면 배우 이름 인덱스를 무효화하여, 적재한 배우를 이름으로 바로 검색할 수 있다.")
+    void ingestActors_InvalidatesActorNameIndex() {
+        // Given
+        actorRepository.rebuildActorNameIndex();
+        List<Actor> actors = List.of(new Actor(null, "BULK\"INDEX", "INGEST", null));
+
+        // When
+        bulkIngestService.ingestActors(actors);
+
+        // Then
+        assertThat(actorRepository.findActorFilmography(ActorFilmographySearchOption.builder()
+            .actorName("BULK\"INDEX")
+            .build()))
+            .extracting(ActorFilmography::actor)
+            .extracting(Actor::getFirstName)
+            .containsExactly("BULK\"INDEX");
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.jooqpractice.rental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jooqpractice.film.FilmRentalSummary;
+import com.example.jooqpractice.film.FilmRentalSummarySource;
+import com.example.jooqpractice.film.FilmRepository;
+import com.example.jooqpractice.film.FilmSearchMode;
+import com.example.jooqpractice.tables.JInventory;
+import com.example.jooqpractice.tables.JRental;
+import com.example.jooqpractice.tables.pojos.FilmRentalStats;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.jooq.DSLContext;
+import org.jooq.Record3;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class FilmRentalStatsRepositoryTest {
+
+    @Autowired
+    FilmRentalStatsRepository filmRentalStatsRepository;
+
+    @Autowired
+    RentalService rentalService;
+
+    @Autowired
+    FilmRepository filmRepository;
+
+    @Autowired
+    DSLContext dslContext;
+
+    @Test
+    @DisplayName("film_rental_stats 를 재집계하면 derived table 로 집계한 평균 대여 기간과 같다.")
+    void rebuild() {
+        // Given
+        filmRentalStatsRepository.rebuild();
+
+        // When
+        List<FilmRentalSummary> fromStatsTable = filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration(
+            "EGG", FilmSearchMode.CONTAINS, FilmRentalSummarySource.STATS_TABLE);
+
+        // Then
+        List<FilmRentalSummary> fromDerivedTable = filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration(
+            "EGG", FilmSearchMode.CONTAINS, FilmRentalSummarySource.DERIVED_TABLE);
+
+        assertThat(fromStatsTable)
+            .isNotEmpty()
+            .containsExactlyInAnyOrderElementsOf(fromDerivedTable);
+    }
+
+    @Test
+    @DisplayName("대여를 반납하면 해당 영화의 대여 기간 합계와 건수가 증분 갱신된다.")
+    void returnRental() {
+        // Given
+        filmRentalStatsRepository.rebuild();
+
+        Record3<Integer, Long, LocalDateTime> notReturnedRental = dslContext
+            .select(JRental.RENTAL.RENTAL_ID, JInventory.INVENTORY.FILM_ID, JRental.RENTAL.RENTAL_DATE)
+            .from(JRental.RENTAL)
+            .join(JInventory.INVENTORY).on(JRental.RENTAL.INVENTORY_ID.eq(JInventory.INVENTORY.INVENTORY_ID))
+            .where(JRental.RENTAL.RETURN_DATE.isNull())
+            .limit(1)
+            .fetchOne();
+
+        assertThat(notReturnedRental).isNotNull();
+        Long filmId = notReturnedRental.value2();
+        long rentalCountBefore = filmRentalStatsRepository.findByFilmId(filmId)
+            .map(FilmRentalStats::getRentalCount)
+            .orElse(0L);
+
+        // When
+        boolean returned = rentalService.returnRental(notReturnedRental.value1(), notReturnedRental.value3().plusDays(3));
+
+        // Then
+        assertThat(returned).isTrue();
+        assertThat(rentalService.returnRental(notReturnedRental.value1(), LocalDateTime.now())).isFalse();
+        assertThat(filmRentalStatsRepository.findByFilmId(filmId))
+            .hasValueSatisfying(stats -> assertThat(stats.getRentalCount()).isEqualTo(rentalCountBefore + 1));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.jooqpractice.rental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jooqpractice.config.ParallelAggregationProperties;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ParallelRentalAggregatorTest {
+
+    @Autowired
+    RentalRepository rentalRepository;
+
+    @Test
+    @DisplayName("rental_id 구간별 부분 집계를 합친 결과는 단일 쿼리로 집계한 결과와 같다.")
+    void sumRentalDurationByFilm() {
+        // Given
+        ParallelRentalAggregator aggregator = new ParallelRentalAggregator(
+            rentalRepository, new ParallelAggregationProperties(3, 1000, Duration.ofSeconds(30)));
+
+        try {
+            // When
+            Map<Long, RentalDurationTotal> parallel = aggregator.sumRentalDurationByFilm();
+
+            // Then
+            Map<Long, RentalDurationTotal> singleQuery = rentalRepository.sumRentalDurationByFilm();
+
+            assertThat(parallel)
+                .isNotEmpty()
+                .isEqualTo(singleQuery);
+        } finally {
+            aggregator.shutdown();
+        }
+    }
+}
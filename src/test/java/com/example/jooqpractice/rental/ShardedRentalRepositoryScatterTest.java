@@ -0,0 +1,65 @@
+package com.example.jooqpractice.rental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.jooqpractice.config.shard.Shard;
+import com.example.jooqpractice.config.shard.ShardedDslContext;
+import java.util.Map;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 샤드 컨테이너 없이 scatter 경로를 확인하기 위해, 두 샤드가 같은 DB 를 가리키고 store 만 나누어 담당하도록 설정한다.
+ * 샤드별 집계는 담당 store 로 한정되므로, 합친 결과는 DB 전체를 한 번에 집계한 결과와 같아야 한다.
+ */
+@SpringBootTest(properties = {
+    "jooq.shard.enabled=true",
+    "jooq.shard.nodes[0].name=store-1",
+    "jooq.shard.nodes[0].url=${spring.datasource.url}",
+    "jooq.shard.nodes[0].store-ids=1",
+    "jooq.shard.nodes[1].name=store-2",
+    "jooq.shard.nodes[1].url=${spring.datasource.url}",
+    "jooq.shard.nodes[1].store-ids=2"
+})
+class ShardedRentalRepositoryScatterTest {
+
+    @Autowired
+    ShardedRentalRepository shardedRentalRepository;
+
+    @Autowired
+    ShardedDslContext shardedDslContext;
+
+    @Autowired
+    DSLContext dslContext;
+
+    @Test
+    @DisplayName("store 를 나누어 담당하는 두 샤드에서 부분 집계한 결과를 합치면 전체를 한 번에 집계한 결과와 같다.")
+    void sumRentalDurationByFilmAcrossTwoShards() {
+        // When
+        Map<Long, RentalDurationTotal> totals = shardedRentalRepository.sumRentalDurationByFilm();
+
+        // Then
+        assertThat(shardedDslContext.shards())
+            .extracting(Shard::name)
+            .containsExactly("store-1", "store-2");
+
+        assertThat(totals)
+            .isNotEmpty()
+            .isEqualTo(RentalRepository.sumRentalDurationByFilm(dslContext, DSL.noCondition()));
+    }
+
+    @Test
+    @DisplayName("store_id 로 담당 샤드를 찾고, 담당 샤드가 없는 store 는 예외가 발생한다.")
+    void shardForStore() {
+        assertThat(shardedDslContext.shardForStore(1L).name()).isEqualTo("store-1");
+        assertThat(shardedDslContext.shardForStore(2L).name()).isEqualTo("store-2");
+
+        assertThatThrownBy(() -> shardedDslContext.shardForStore(3L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.jooqpractice.rental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.example.jooqpractice.film.FilmRentalSummary;
+import com.example.jooqpractice.film.FilmRepository;
+import com.example.jooqpractice.film.FilmSearchMode;
+import com.example.jooqpractice.film.FilmService;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ShardedRentalRepositoryTest {
+
+    @Autowired
+    ShardedRentalRepository shardedRentalRepository;
+
+    @Autowired
+    FilmService filmService;
+
+    @Autowired
+    FilmRepository filmRepository;
+
+    @Test
+    @DisplayName("샤드별 대여 기간 합계/건수를 합친 평균은 rental 전체를 한 번에 집계한 평균과 같다.")
+    void getFilmRentalSummaryAcrossShards() {
+        // When
+        List<FilmRentalSummary> acrossShards = filmService.getFilmRentalSummaryAcrossShards("EGG", FilmSearchMode.CONTAINS);
+
+        // Then
+        List<FilmRentalSummary> singleNode = filmRepository.findFilmRentalSummaryByFilmTitleOrderByRentalDuration(
+            "EGG", FilmSearchMode.CONTAINS);
+
+        assertThat(acrossShards)
+            .isNotEmpty()
+            .extracting(FilmRentalSummary::filmId)
+            .containsExactlyInAnyOrderElementsOf(singleNode.stream().map(FilmRentalSummary::filmId).toList());
+
+        Map<Long, Double> singleNodeDurations = singleNode.stream()
+            .filter(summary -> summary.rentalDuration() != null)
+            .collect(Collectors.toMap(FilmRentalSummary::filmId, FilmRentalSummary::rentalDuration));
+
+        acrossShards.stream()
+            .filter(summary -> summary.rentalDuration() != null)
+            .forEach(summary -> assertThat(summary.rentalDuration())
+                .isCloseTo(singleNodeDurations.get(summary.filmId()), within(0.0001)));
+    }
+
+    @Test
+    @DisplayName("film 별 대여 기간 합계/건수는 반납된 대여만 집계한다.")
+    void sumRentalDurationByFilm() {
+        // When
+        Map<Long, RentalDurationTotal> totals = shardedRentalRepository.sumRentalDurationByFilm();
+
+        // Then
+        assertThat(totals).isNotEmpty();
+        assertThat(totals.values())
+            .allSatisfy(total -> {
+                assertThat(total.rentalCount()).isPositive();
+                assertThat(total.averageRentalDuration()).isNotNull();
+            });
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.jooqpractice.utils.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BatchLoaderTest {
+
+    private final List<Set<Long>> batches = new CopyOnWriteArrayList<>();
+
+    private Map<Long, String> load(Set<Long> ids) {
+        batches.add(ids);
+        return ids.stream()
+            .filter(id -> id > 0)
+            .collect(Collectors.toMap(Function.identity(), id -> "value-" + id));
+    }
+
+    @Test
+    @DisplayName("window 안에 들어온 개별 조회는 중복을 제거하여 한 번에 조회한다.")
+    void load() {
+        try (BatchLoader<Long, String> batchLoader = new BatchLoader<>(this::load, Duration.ofMillis(50), 100)) {
+            // When
+            CompletableFuture<String> first = batchLoader.load(1L);
+            CompletableFuture<String> second = batchLoader.load(2L);
+            CompletableFuture<String> duplicated = batchLoader.load(1L);
+            CompletableFuture<String> missing = batchLoader.load(-1L);
+
+            // Then
+            assertThat(first.join()).isEqualTo("value-1");
+            assertThat(second.join()).isEqualTo("value-2");
+            assertThat(duplicated).isSameAs(first);
+            assertThat(missing.join()).isNull();
+            assertThat(batches).containsExactly(Set.of(1L, 2L, -1L));
+        }
+    }
+
+    @Test
+    @DisplayName("maxBatchSize 만큼 모이면 window 를 기다리지 않고 나누어 조회한다.")
+    void load_WhenBatchIsFull() {
+        try (BatchLoader<Long, String> batchLoader = new BatchLoader<>(this::load, Duration.ofMinutes(1), 2)) {
+            // When
+            List<CompletableFuture<String>> futures = List.of(batchLoader.load(1L), batchLoader.load(2L),
+                batchLoader.load(3L), batchLoader.load(4L));
+
+            // Then
+            assertThat(futures.stream().map(CompletableFuture::join))
+                .containsExactly("value-1", "value-2", "value-3", "value-4");
+            assertThat(batches).containsExactlyInAnyOrder(Set.of(1L, 2L), Set.of(3L, 4L));
+        }
+    }
+
+    @Test
+    @DisplayName("null 키는 조회하지 않고 거부한다.")
+    void load_WhenKeyIsNull() {
+        try (BatchLoader<Long, String> batchLoader = new BatchLoader<>(this::load, Duration.ofMinutes(1), 100)) {
+            // When & Then
+            assertThatThrownBy(() -> batchLoader.load(null))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> batchLoader.loadAll(Arrays.asList(1L, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThat(batches).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("loadAll 은 window 를 기다리지 않고 키 순서대로 반환한다.")
+    void loadAll() {
+        try (BatchLoader<Long, String> batchLoader = new BatchLoader<>(this::load, Duration.ofMinutes(1), 100)) {
+            // When
+            List<String> values = batchLoader.loadAll(List.of(3L, 1L, 3L, -1L));
+
+            // Then
+            assertThat(values).containsExactly("value-3", "value-1", "value-3", null);
+            assertThat(batches).containsExactly(Set.of(1L, 3L, -1L));
+        }
+    }
+
+    @Test
+    @DisplayName("loadAll 에 빈 목록을 넘기면 조회하지 않고 빈 목록을 반환한다.")
+    void loadAll_WhenKeysAreEmpty() {
+        try (BatchLoader<Long, String> batchLoader = new BatchLoader<>(this::load, Duration.ofMinutes(1), 100)) {
+            // When
+            List<String> values = batchLoader.loadAll(List.of());
+
+            // Then
+            assertThat(values).isEmpty();
+            assertThat(batches).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("of 로 만든 BatchLoader 는 finder 결과를 keyMapper 로 구한 키에 연결한다.")
+    void of() {
+        // Given
+        List<List<Long>> finderCalls = new CopyOnWriteArrayList<>();
+        Function<List<Long>, List<String>> finder = ids -> {
+            finderCalls.add(ids);
+            return ids.stream().filter(id -> id > 0).map(id -> "value-" + id).toList();
+        };
+
+        try (BatchLoader<Long, String> batchLoader = BatchLoader.of(
+            finder, value -> Long.valueOf(value.substring("value-".length())), Duration.ofMinutes(1), 100)) {
+            // When
+            List<String> values = batchLoader.loadAll(List.of(2L, -1L, 1L));
+
+            // Then
+            assertThat(values).containsExactly("value-2", null, "value-1");
+            assertThat(finderCalls).hasSize(1);
+            assertThat(finderCalls.getFirst()).containsExactlyInAnyOrder(2L, -1L, 1L);
+        }
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 같은 batch 의 모든 future 가 실패한다.")
+    void load_WhenBatchFails() {
+        // Given
+        try (BatchLoader<Long, String> batchLoader = new BatchLoader<>(ids -> {
+            throw new IllegalStateException("boom");
+        }, Duration.ofMinutes(1), 100)) {
+            // When & Then
+            assertThatThrownBy(() -> batchLoader.loadAll(List.of(1L, 2L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.jooqpractice.utils.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class FanOutScopeTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Semaphore permits = new Semaphore(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("모든 작업이 끝나면 결과를 반환하고 permits 를 돌려준다.")
+    void join() throws Exception {
+        // Given
+        Future<String> first;
+        Future<String> second;
+
+        // When
+        try (FanOutScope scope = new FanOutScope(executor, permits, Duration.ofSeconds(1))) {
+            first = scope.fork(() -> "first");
+            second = scope.fork(() -> "second");
+            scope.join();
+        }
+
+        // Then
+        assertThat(first.resultNow()).isEqualTo("first");
+        assertThat(second.resultNow()).isEqualTo("second");
+        assertThat(permits.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("deadline 을 넘기면 TimeoutException 을 던지고 실행 중인 작업을 취소한다.")
+    void join_WhenTaskIsSlow() throws Exception {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Future<String> slow;
+
+        // When
+        try (FanOutScope scope = new FanOutScope(executor, permits, Duration.ofMillis(100))) {
+            slow = scope.fork(() -> sleepUntilInterrupted(interrupted));
+            scope.fork(() -> "fast");
+
+            assertThatThrownBy(scope::join).isInstanceOf(TimeoutException.class);
+        }
+
+        // Then
+        assertThat(slow.isCancelled()).isTrue();
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("하나가 실패하면 원래 예외를 ExecutionException 으로 전파하고 나머지 작업을 취소한다.")
+    void join_WhenTaskFails() throws Exception {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Future<String> sibling;
+
+        // When
+        try (FanOutScope scope = new FanOutScope(executor, permits, Duration.ofSeconds(5))) {
+            sibling = scope.fork(() -> sleepUntilInterrupted(interrupted));
+            scope.fork(() -> {
+                throw new IllegalStateException("failed");
+            });
+
+            assertThatThrownBy(scope::join)
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failed");
+        }
+
+        // Then
+        assertThat(sibling.isCancelled()).isTrue();
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("취소된 작업도 permits 를 돌려주므로 다음 fan-out 이 permits 를 얻을 수 있다.")
+    void join_ReleasesPermitsAfterCancellation() throws Exception {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(2);
+        try (FanOutScope scope = new FanOutScope(executor, permits, Duration.ofMillis(100))) {
+            scope.fork(() -> sleepUntilInterrupted(interrupted));
+            scope.fork(() -> sleepUntilInterrupted(interrupted));
+
+            assertThatThrownBy(scope::join).isInstanceOf(TimeoutException.class);
+        }
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Future<String> next;
+        try (FanOutScope scope = new FanOutScope(executor, permits, Duration.ofSeconds(1))) {
+            next = scope.fork(() -> "next");
+            scope.join();
+        }
+
+        // Then
+        assertThat(next.resultNow()).isEqualTo("next");
+        assertThat(permits.tryAcquire(2, 1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("joinOrThrow 는 deadline 초과를 QueryTimeoutException 으로, 작업 실패를 원래 예외로 던진다.")
+    void joinOrThrow() {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When & Then
+        try (FanOutScope scope = new FanOutScope(executor, permits, Duration.ofMillis(100))) {
+            scope.fork(() -> sleepUntilInterrupted(interrupted));
+
+            assertThatThrownBy(() -> scope.joinOrThrow("slow queries"))
+                .isInstanceOf(QueryTimeoutException.class)
+                .hasMessageContaining("slow queries");
+        }
+
+        try (FanOutScope scope = new FanOutScope(executor, permits, Duration.ofSeconds(1))) {
+            scope.fork(() -> {
+                throw new IllegalArgumentException("failed");
+            });
+
+            assertThatThrownBy(() -> scope.joinOrThrow("failing queries"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("failed");
+        }
+    }
+
+    private static String sleepUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(Duration.ofMinutes(1));
+            return "slow";
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        }
+    }
+}
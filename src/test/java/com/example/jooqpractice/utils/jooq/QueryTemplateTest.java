@@ -0,0 +1,94 @@
+package com.example.jooqpractice.utils.jooq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.jooqpractice.tables.JFilm;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryTemplateTest {
+    private static final JFilm FILM = JFilm.FILM;
+
+    private final DSLContext dslContext = DSL.using(SQLDialect.MYSQL);
+
+    @Test
+    @DisplayName("이름을 붙인 bind 변수에 값을 넣어 매번 조립한 쿼리와 같은 SQL 을 만든다.")
+    void query() {
+        // Given
+        QueryTemplate template = QueryTemplate.of(DSL
+            .select(FILM.FILM_ID, FILM.TITLE)
+            .from(FILM)
+            .where(FILM.FILM_ID.eq(DSL.param("filmId", FILM.FILM_ID)))
+            .and(FILM.TITLE.like(DSL.param("title", FILM.TITLE)))
+            .limit(10));
+
+        // When
+        ResultQuery<Record> query = template.query(dslContext, 7L, "A%");
+
+        // Then
+        String dynamicSql = dslContext
+            .select(FILM.FILM_ID, FILM.TITLE)
+            .from(FILM)
+            .where(FILM.FILM_ID.eq(7L))
+            .and(FILM.TITLE.like("A%"))
+            .limit(10)
+            .getSQL();
+
+        assertThat(query.getSQL()).isEqualTo(dynamicSql);
+        assertThat(query.getBindValues()).containsExactly(7L, "A%", 10);
+        assertThat(query.fields()).containsExactly(FILM.FILM_ID, FILM.TITLE);
+    }
+
+    @Test
+    @DisplayName("Configuration 마다 그 dialect 로 렌더링한 SQL 을 사용한다.")
+    void query_WithDifferentConfigurations() {
+        // Given
+        QueryTemplate template = QueryTemplate.of(DSL
+            .select(FILM.FILM_ID)
+            .from(FILM)
+            .where(FILM.FILM_ID.eq(DSL.param("filmId", FILM.FILM_ID))));
+        DSLContext postgresDslContext = DSL.using(SQLDialect.POSTGRES);
+
+        // When
+        ResultQuery<Record> mysqlQuery = template.query(dslContext, 1L);
+        ResultQuery<Record> postgresQuery = template.query(postgresDslContext, 1L);
+
+        // Then
+        assertThat(mysqlQuery.getSQL())
+            .isEqualTo(dslContext.select(FILM.FILM_ID).from(FILM).where(FILM.FILM_ID.eq(1L)).getSQL());
+        assertThat(postgresQuery.getSQL())
+            .isEqualTo(postgresDslContext.select(FILM.FILM_ID).from(FILM).where(FILM.FILM_ID.eq(1L)).getSQL())
+            .isNotEqualTo(mysqlQuery.getSQL());
+    }
+
+    @Test
+    @DisplayName("bind 값의 개수가 이름을 붙인 bind 변수 수와 다르면 예외가 발생한다.")
+    void query_WhenBindValuesMismatch() {
+        QueryTemplate template = QueryTemplate.of(DSL
+            .select(FILM.FILM_ID)
+            .from(FILM)
+            .where(FILM.FILM_ID.eq(DSL.param("filmId", FILM.FILM_ID))));
+
+        assertThatThrownBy(() -> template.query(dslContext))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 이름의 bind 변수를 여러 번 사용할 수 없다.")
+    void query_WhenNamedParamIsDuplicated() {
+        QueryTemplate template = QueryTemplate.of(DSL
+            .select(FILM.FILM_ID)
+            .from(FILM)
+            .where(FILM.FILM_ID.ge(DSL.param("filmId", FILM.FILM_ID)))
+            .and(FILM.FILM_ID.le(DSL.param("filmId", FILM.FILM_ID))));
+
+        assertThatThrownBy(() -> template.query(dslContext, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
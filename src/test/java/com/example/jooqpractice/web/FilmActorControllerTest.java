@@ -0,0 +1,36 @@
+package com.example.jooqpractice.web;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FilmActorControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("커서 없이 요청하면 첫 페이지와 다음 커서를 응답한다.")
+    void getFilmActors() throws Exception {
+        mockMvc.perform(get("/films/actors").param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.filmActorList.length()").value(5))
+            .andExpect(jsonPath("$.page.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서로 요청하면 400 을 응답한다.")
+    void getFilmActorsWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/films/actors").param("cursor", "not-a-cursor!"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.jooqpractice.web;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReactiveFilmControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "1001"})
+    @DisplayName("prefetch 가 허용 범위를 벗어나면 400 을 응답한다.")
+    void streamFilmActorsWithInvalidPrefetch(String prefetch) throws Exception {
+        mockMvc.perform(get("/reactive/films/actors/stream").param("prefetch", prefetch))
+            .andExpect(status().isBadRequest());
+    }
+}